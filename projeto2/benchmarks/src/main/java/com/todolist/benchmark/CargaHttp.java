@@ -0,0 +1,242 @@
+package main.java.com.todolist.benchmark;
+
+import main.java.com.todolist.metricas.HistogramaLatencia;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import main.java.com.todolist.ui.ServidorHttp;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Teste de carga do ServidorHttp: sobe o servidor no mesmo processo, com a persistência em
+// memória, e abre várias conexões que enviam lotes de requisições em pipelining (o lote inteiro
+// é escrito antes de a primeira resposta ser lida). Mistura buscas por ID, listagens paginadas
+// com If-None-Match e mudanças de status, e relata vazão e latências p50/p99/máxima:
+//
+//   java -cp target/benchmarks.jar main.java.com.todolist.benchmark.CargaHttp [conexoes] [profundidade] [segundos] [tarefas]
+//
+// A latência de cada requisição vai do envio do lote até a sua resposta chegar completa.
+public class CargaHttp {
+
+    static final int CONEXOES_PADRAO = 16;
+    static final int PROFUNDIDADE_PADRAO = 8;
+    static final int SEGUNDOS_PADRAO = 10;
+    static final int TAREFAS_PADRAO = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int conexoes = args.length > 0 ? Integer.parseInt(args[0]) : CONEXOES_PADRAO;
+        int profundidade = args.length > 1 ? Integer.parseInt(args[1]) : PROFUNDIDADE_PADRAO;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : SEGUNDOS_PADRAO;
+        int tarefas = args.length > 3 ? Integer.parseInt(args[3]) : TAREFAS_PADRAO;
+
+        GerenciadorTarefas gerenciador = criarGerenciador(tarefas);
+        try (ServidorHttp servidor = new ServidorHttp(gerenciador, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            servidor.iniciar();
+            System.out.printf("Servidor na porta %d (%s), %,d tarefas, %d conexões x %d em pipelining, %d s%n",
+                    servidor.getPorta(), servidor.usaThreadsVirtuais() ? "threads virtuais" : "pool de threads",
+                    tarefas, conexoes, profundidade, segundos);
+
+            // Aquecimento curto para o JIT, descartado do resultado.
+            executar(servidor.getPorta(), conexoes, profundidade, Math.min(2, segundos), tarefas, new Resultado());
+
+            Resultado resultado = new Resultado();
+            long inicio = System.nanoTime();
+            executar(servidor.getPorta(), conexoes, profundidade, segundos, tarefas, resultado);
+            double decorrido = (System.nanoTime() - inicio) / 1e9;
+            relatar(resultado, decorrido);
+        } finally {
+            gerenciador.close();
+        }
+    }
+
+    private static GerenciadorTarefas criarGerenciador(int tarefas) {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return new GerenciadorTarefas(new DadosBenchmark.PersistenciaEmMemoria(DadosBenchmark.gerarTarefas(tarefas)));
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    private static void executar(int porta, int conexoes, int profundidade, int segundos, int tarefas,
+                                 Resultado resultado) throws InterruptedException {
+        long prazo = System.nanoTime() + segundos * 1_000_000_000L;
+        List<Thread> clientes = new ArrayList<>();
+        for (int i = 0; i < conexoes; i++) {
+            Thread cliente = new Thread(() -> {
+                try {
+                    new Conexao(porta, profundidade, tarefas, resultado).executarAte(prazo);
+                } catch (IOException e) {
+                    resultado.falhas.increment();
+                    System.err.println("AVISO: Conexão encerrada com erro: " + e.getMessage());
+                }
+            }, "carga-http-" + i);
+            clientes.add(cliente);
+            cliente.start();
+        }
+        for (Thread cliente : clientes) {
+            cliente.join();
+        }
+    }
+
+    private static void relatar(Resultado resultado, double segundos) {
+        HistogramaLatencia latencias = resultado.latencias;
+        System.out.printf("Requisições: %,d em %.1f s (%,.0f req/s)%n", latencias.quantidade(), segundos,
+                latencias.quantidade() / segundos);
+        System.out.printf("Latência p50 %.2f ms, p99 %.2f ms, máxima %.2f ms, média %.2f ms%n",
+                latencias.percentil(50) / 1e6, latencias.percentil(99) / 1e6,
+                latencias.maximo() / 1e6, latencias.media() / 1e6);
+        System.out.println("Respostas por status: " + resultado.porStatus);
+        if (resultado.falhas.sum() > 0) {
+            System.out.printf("Conexões com erro: %d%n", resultado.falhas.sum());
+        }
+    }
+
+    private static final class Resultado {
+        final HistogramaLatencia latencias = new HistogramaLatencia();
+        final Map<Integer, LongAdder> porStatus = new ConcurrentHashMap<>();
+        final LongAdder falhas = new LongAdder();
+
+        void registrar(int status, long nanos) {
+            latencias.registrar(nanos);
+            porStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    // Uma conexão HTTP/1.1 persistente, lida e escrita direto no socket.
+    private static final class Conexao {
+        private final int porta;
+        private final int profundidade;
+        private final int tarefas;
+        private final Resultado resultado;
+        private String ultimoEtag;
+
+        Conexao(int porta, int profundidade, int tarefas, Resultado resultado) {
+            this.porta = porta;
+            this.profundidade = profundidade;
+            this.tarefas = tarefas;
+            this.resultado = resultado;
+        }
+
+        void executarAte(long prazo) throws IOException {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), porta)) {
+                socket.setTcpNoDelay(true);
+                OutputStream saida = socket.getOutputStream();
+                InputStream entrada = new BufferedInputStream(socket.getInputStream(), 64 * 1024);
+                ByteArrayOutputStream lote = new ByteArrayOutputStream();
+                while (System.nanoTime() < prazo) {
+                    lote.reset();
+                    for (int i = 0; i < profundidade; i++) {
+                        lote.write(proximaRequisicao());
+                    }
+                    long enviado = System.nanoTime();
+                    lote.writeTo(saida);
+                    saida.flush();
+                    for (int i = 0; i < profundidade; i++) {
+                        int status = lerResposta(entrada);
+                        resultado.registrar(status, System.nanoTime() - enviado);
+                    }
+                }
+            }
+        }
+
+        // 60% buscas por ID, 30% mudanças de status, 10% páginas da listagem.
+        private byte[] proximaRequisicao() {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            long id = 1 + aleatorio.nextInt(tarefas);
+            int sorteio = aleatorio.nextInt(10);
+            String requisicao;
+            if (sorteio < 6) {
+                requisicao = "GET /tarefas/" + id + " HTTP/1.1\r\nHost: localhost\r\n\r\n";
+            } else if (sorteio < 9) {
+                String corpo = aleatorio.nextBoolean() ? "{\"status\":\"CONCLUIDA\"}" : "{\"status\":\"PENDENTE\"}";
+                requisicao = "PUT /tarefas/" + id + "/status HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Content-Type: application/json\r\nContent-Length: " + corpo.length() + "\r\n\r\n" + corpo;
+            } else {
+                requisicao = "GET /tarefas?cursor=" + (id - 1) + "&limite=50 HTTP/1.1\r\nHost: localhost\r\n"
+                        + "Accept-Encoding: gzip\r\n"
+                        + (ultimoEtag != null ? "If-None-Match: " + ultimoEtag + "\r\n" : "") + "\r\n";
+            }
+            return requisicao.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        private int lerResposta(InputStream entrada) throws IOException {
+            String linhaStatus = lerLinha(entrada);
+            int status = Integer.parseInt(linhaStatus.split(" ")[1]);
+            long tamanho = -1;
+            boolean emPartes = false;
+            for (String linha = lerLinha(entrada); !linha.isEmpty(); linha = lerLinha(entrada)) {
+                int doisPontos = linha.indexOf(':');
+                String nome = linha.substring(0, doisPontos).trim().toLowerCase();
+                String valor = linha.substring(doisPontos + 1).trim();
+                if (nome.equals("content-length")) {
+                    tamanho = Long.parseLong(valor);
+                } else if (nome.equals("transfer-encoding") && valor.equalsIgnoreCase("chunked")) {
+                    emPartes = true;
+                } else if (nome.equals("etag")) {
+                    ultimoEtag = valor;
+                }
+            }
+            if (emPartes) {
+                for (long parte = lerTamanhoParte(entrada); parte > 0; parte = lerTamanhoParte(entrada)) {
+                    pular(entrada, parte);
+                    lerLinha(entrada);
+                }
+                lerLinha(entrada);
+            } else if (tamanho > 0) {
+                pular(entrada, tamanho);
+            }
+            return status;
+        }
+
+        private static long lerTamanhoParte(InputStream entrada) throws IOException {
+            String linha = lerLinha(entrada);
+            int extensao = linha.indexOf(';');
+            return Long.parseLong(extensao >= 0 ? linha.substring(0, extensao) : linha, 16);
+        }
+
+        private static void pular(InputStream entrada, long quantidade) throws IOException {
+            long restante = quantidade;
+            while (restante > 0) {
+                long pulados = entrada.skip(restante);
+                if (pulados <= 0) {
+                    if (entrada.read() < 0) {
+                        throw new IOException("Conexão encerrada no meio da resposta.");
+                    }
+                    pulados = 1;
+                }
+                restante -= pulados;
+            }
+        }
+
+        private static String lerLinha(InputStream entrada) throws IOException {
+            StringBuilder linha = new StringBuilder();
+            for (int c = entrada.read(); c != '\n'; c = entrada.read()) {
+                if (c < 0) {
+                    throw new IOException("Conexão encerrada pelo servidor.");
+                }
+                if (c != '\r') {
+                    linha.append((char) c);
+                }
+            }
+            return linha.toString();
+        }
+    }
+}
\ No newline at end of file
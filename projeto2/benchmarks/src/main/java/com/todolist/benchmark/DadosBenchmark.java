@@ -0,0 +1,49 @@
+package main.java.com.todolist.benchmark;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Geração de massa de dados determinística compartilhada pelos benchmarks.
+final class DadosBenchmark {
+
+    private static final LocalDate DATA_BASE = LocalDate.of(2024, 1, 1);
+
+    private DadosBenchmark() {
+    }
+
+    static List<Tarefa> gerarTarefas(int quantidade) {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        List<Tarefa> tarefas = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            String descricao = aleatorio.nextInt(4) == 0 ? null : "Descrição da tarefa " + i;
+            LocalDate data = aleatorio.nextBoolean() ? DATA_BASE.plusDays(aleatorio.nextInt(730)) : null;
+            StatusTarefa status = aleatorio.nextInt(3) == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.PENDENTE;
+            tarefas.add(new Tarefa(i, "Tarefa " + i, descricao, data, status));
+        }
+        return tarefas;
+    }
+
+    // Isola o custo do gerenciador: carregar devolve a massa pronta e salvar não faz I/O.
+    static final class PersistenciaEmMemoria implements PersistenciaTarefas {
+        private final List<Tarefa> iniciais;
+
+        PersistenciaEmMemoria(List<Tarefa> iniciais) {
+            this.iniciais = iniciais;
+        }
+
+        @Override
+        public void salvar(List<Tarefa> tarefas) {
+        }
+
+        @Override
+        public List<Tarefa> carregar() {
+            return new ArrayList<>(iniciais);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package main.java.com.todolist.benchmark;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.PrintStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Operações em memória do GerenciadorTarefas, sem custo de I/O (ver DadosBenchmark.PersistenciaEmMemoria).
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GerenciadorTarefasBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private List<Tarefa> massa;
+    private GerenciadorTarefas gerenciador;
+    private SplittableRandom aleatorio;
+    private long[] idsVivos;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void gerarMassa() {
+        massa = DadosBenchmark.gerarTarefas(tamanho);
+    }
+
+    // Recria o gerenciador a cada iteração para que adicionarTarefa não faça o tamanho crescer sem limite.
+    @Setup(Level.Iteration)
+    public void criarGerenciador() {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            gerenciador = new GerenciadorTarefas(new DadosBenchmark.PersistenciaEmMemoria(massa));
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+        aleatorio = new SplittableRandom(7);
+        idsVivos = new long[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            idsVivos[i] = massa.get(i).getId();
+        }
+        cursor = 0;
+    }
+
+    @Benchmark
+    public Tarefa adicionarTarefa() {
+        return gerenciador.adicionarTarefa("Nova tarefa", "Descrição", null);
+    }
+
+    @Benchmark
+    public Object buscarTarefaPorId() {
+        return gerenciador.buscarTarefaPorId(1 + aleatorio.nextInt(tamanho));
+    }
+
+    @Benchmark
+    public void listarPendentes(Blackhole blackhole) {
+        for (Tarefa tarefa : gerenciador.listarPendentes()) {
+            blackhole.consume(tarefa);
+        }
+    }
+
+    // Exclui uma tarefa existente e inclui outra no lugar, mantendo o tamanho constante.
+    @Benchmark
+    public boolean excluirTarefa() {
+        int posicao = cursor;
+        cursor = (cursor + 1) % tamanho;
+        boolean excluiu = gerenciador.excluirTarefa(idsVivos[posicao]);
+        idsVivos[posicao] = gerenciador.adicionarTarefa("Reposição", null, null).getId();
+        return excluiu;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package main.java.com.todolist.benchmark;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+import main.java.com.todolist.service.GerenciadorTarefas;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Mede a memória retida por tarefa: só os objetos Tarefa (com textos) e o gerenciador completo,
+// com seus índices. O JMH mede alocação, não memória retida, por isso esta medição é um main à parte:
+//
+//   java -cp target/benchmarks.jar main.java.com.todolist.benchmark.MemoriaPorTarefa [quantidade]
+//
+// Termina com código 1 se alguma medida passar da meta. Os valores supõem oops comprimidos
+// (heap abaixo de 32 GB), o padrão da JVM.
+public class MemoriaPorTarefa {
+
+    static final int QUANTIDADE_PADRAO = 1_000_000;
+    static final double META_BYTES_TAREFA = 160;
+    static final double META_BYTES_GERENCIADOR = 400;
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : QUANTIDADE_PADRAO;
+
+        long antes = memoriaUsada();
+        List<Tarefa> massa = DadosBenchmark.gerarTarefas(quantidade);
+        double bytesTarefa = (memoriaUsada() - antes) / (double) quantidade;
+
+        CargaUnica carga = new CargaUnica(massa);
+        massa = null;
+        GerenciadorTarefas gerenciador = criarGerenciador(carga);
+        double bytesGerenciador = (memoriaUsada() - antes) / (double) quantidade;
+
+        System.out.printf("Tarefas: %,d%n", gerenciador.contarTodas());
+        boolean dentroDaMeta = relatar("Tarefa (com textos)", bytesTarefa, META_BYTES_TAREFA);
+        dentroDaMeta &= relatar("Gerenciador (com índices)", bytesGerenciador, META_BYTES_GERENCIADOR);
+        if (!dentroDaMeta) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean relatar(String descricao, double bytesPorTarefa, double meta) {
+        boolean dentro = bytesPorTarefa <= meta;
+        System.out.printf("%-28s %7.1f bytes/tarefa (meta %.0f) %s%n", descricao, bytesPorTarefa, meta,
+                dentro ? "OK" : "ACIMA DA META");
+        return dentro;
+    }
+
+    private static GerenciadorTarefas criarGerenciador(PersistenciaTarefas persistencia) {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return new GerenciadorTarefas(persistencia);
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    // Várias coletas seguidas até a medida estabilizar; System.gc() é só uma sugestão à JVM.
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        long anterior = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long usada = runtime.totalMemory() - runtime.freeMemory();
+            if (usada >= anterior) {
+                return usada;
+            }
+            anterior = usada;
+        }
+        return anterior;
+    }
+
+    // Entrega a massa uma única vez e a esquece, para que só o gerenciador a retenha.
+    private static final class CargaUnica implements PersistenciaTarefas {
+        private List<Tarefa> tarefas;
+
+        CargaUnica(List<Tarefa> tarefas) {
+            this.tarefas = tarefas;
+        }
+
+        @Override
+        public void salvar(List<Tarefa> tarefas) {
+        }
+
+        @Override
+        public List<Tarefa> carregar() {
+            List<Tarefa> entregues = tarefas != null ? tarefas : new ArrayList<>();
+            tarefas = null;
+            return entregues;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package main.java.com.todolist.benchmark;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Gravação e leitura completas de tarefas.json; cada operação é um arquivo inteiro.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PersistenciaJsonBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    @Param({"true", "false"})
+    public boolean formatado;
+
+    private List<Tarefa> massa;
+    private Path diretorio;
+    private PersistenciaJson persistencia;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        massa = DadosBenchmark.gerarTarefas(tamanho);
+        diretorio = Files.createTempDirectory("benchmark-tarefas");
+        persistencia = new PersistenciaJson(diretorio.resolve("tarefas.json").toString(), formatado);
+        persistencia.salvar(massa);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpar() throws IOException {
+        try (var arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+        Files.deleteIfExists(diretorio);
+    }
+
+    @Benchmark
+    public void salvar() {
+        persistencia.salvar(massa);
+    }
+
+    @Benchmark
+    public List<Tarefa> carregar() {
+        return persistencia.carregar();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package main.java.com.todolist.domain;
+
+/**
+ * Campos de uma tarefa que podem ser alterados depois de criada; veja {@link Tarefa#camposAlterados()}.
+ */
+public enum CampoTarefa {
+    TITULO,
+    DESCRICAO,
+    VENCIMENTO,
+    STATUS
+}
\ No newline at end of file
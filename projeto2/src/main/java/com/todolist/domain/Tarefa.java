@@ -1,14 +1,26 @@
 package main.java.com.todolist.domain;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class Tarefa {
+    private static final long SEM_VENCIMENTO = Long.MIN_VALUE;
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+    private static final CampoTarefa[] CAMPOS = CampoTarefa.values();
+    private static final int MASCARA_STATUS = 0x07;
+    private static final int CONGELADA = 0x08;
+    private static final int INICIO_ALTERACOES = 4;
+
     private long id;
     private String titulo;
     private String descricao;
-    private LocalDate dataVencimento;
-    private StatusTarefa status;
+    // Dia epoch em vez de LocalDate: poupa um objeto por tarefa com vencimento.
+    private long diaVencimento = SEM_VENCIMENTO;
+    // Status (ordinal + 1, ou 0 se ausente) nos bits baixos, a marca de congelada e, nos altos, os
+    // campos alterados desde a última gravação: um byte em vez de uma referência, e a tarefa não cresce.
+    private byte estado;
 
     public Tarefa(String titulo, String descricao, LocalDate dataVencimento) {
         if (titulo == null || titulo.trim().isEmpty()) {
@@ -16,8 +28,8 @@ public class Tarefa {
         }
         this.titulo = titulo.trim();
         this.descricao = descricao;
-        this.dataVencimento = dataVencimento;
-        this.status = StatusTarefa.PENDENTE;
+        this.diaVencimento = dataVencimento != null ? dataVencimento.toEpochDay() : SEM_VENCIMENTO;
+        definirStatus(StatusTarefa.PENDENTE);
     }
 
     Tarefa() {}
@@ -25,7 +37,37 @@ public class Tarefa {
     public Tarefa(long id, String titulo, String descricao, LocalDate dataVencimento, StatusTarefa status) {
         this(titulo, descricao, dataVencimento);
         this.id = id;
-        this.status = status;
+        definirStatus(status);
+    }
+
+    /**
+     * @return Uma cópia independente e alterável desta tarefa, com o mesmo ID.
+     */
+    public Tarefa copiar() {
+        Tarefa copia = new Tarefa();
+        copia.id = id;
+        copia.titulo = titulo;
+        copia.descricao = descricao;
+        copia.diaVencimento = diaVencimento;
+        copia.estado = (byte) (estado & ~CONGELADA);
+        return copia;
+    }
+
+    /**
+     * @return Uma cópia somente leitura desta tarefa, ou ela mesma se já estiver congelada. Os
+     *         métodos que alteram uma tarefa congelada lançam UnsupportedOperationException.
+     */
+    public Tarefa congelada() {
+        if (estaCongelada()) {
+            return this;
+        }
+        Tarefa copia = copiar();
+        copia.estado |= CONGELADA;
+        return copia;
+    }
+
+    public boolean estaCongelada() {
+        return (estado & CONGELADA) != 0;
     }
 
     public long getId() {
@@ -41,37 +83,89 @@ public class Tarefa {
     }
 
     public LocalDate getDataVencimento() {
-        return dataVencimento;
+        return diaVencimento != SEM_VENCIMENTO ? LocalDate.ofEpochDay(diaVencimento) : null;
     }
 
     public StatusTarefa getStatus() {
-        return status;
+        int codigo = estado & MASCARA_STATUS;
+        return codigo != 0 ? STATUS[codigo - 1] : null;
     }
 
     public void setTitulo(String titulo) {
+        verificarAlteravel();
          if (titulo == null || titulo.trim().isEmpty()) {
             throw new IllegalArgumentException("Título não pode ser vazio.");
         }
-        this.titulo = titulo.trim();
+        String novo = titulo.trim();
+        if (!novo.equals(this.titulo)) {
+            marcar(CampoTarefa.TITULO);
+        }
+        this.titulo = novo;
     }
 
     public void setDescricao(String descricao) {
+        verificarAlteravel();
+        if (!Objects.equals(descricao, this.descricao)) {
+            marcar(CampoTarefa.DESCRICAO);
+        }
         this.descricao = descricao;
     }
 
     public void setDataVencimento(LocalDate dataVencimento) {
-        this.dataVencimento = dataVencimento;
+        verificarAlteravel();
+        long dia = dataVencimento != null ? dataVencimento.toEpochDay() : SEM_VENCIMENTO;
+        if (dia != diaVencimento) {
+            this.diaVencimento = dia;
+            marcar(CampoTarefa.VENCIMENTO);
+        }
     }
 
     public void marcarComoConcluida() {
-        this.status = StatusTarefa.CONCLUIDA;
+        setStatus(StatusTarefa.CONCLUIDA);
     }
 
     public void marcarComoPendente() {
-        this.status = StatusTarefa.PENDENTE;
+        setStatus(StatusTarefa.PENDENTE);
+    }
+
+    /**
+     * @return true se algum campo mudou desde a criação da tarefa ou desde {@link #limparAlteracoes()}.
+     */
+    public boolean foiAlterada() {
+        return (estado & ~(MASCARA_STATUS | CONGELADA)) != 0;
+    }
+
+    public boolean foiAlterado(CampoTarefa campo) {
+        return (estado & bit(campo)) != 0;
+    }
+
+    public Set<CampoTarefa> camposAlterados() {
+        Set<CampoTarefa> alterados = EnumSet.noneOf(CampoTarefa.class);
+        for (CampoTarefa campo : CAMPOS) {
+            if (foiAlterado(campo)) {
+                alterados.add(campo);
+            }
+        }
+        return alterados;
+    }
+
+    /**
+     * Marca todos os campos como alterados, como numa tarefa ainda não gravada.
+     */
+    public void marcarComoAlterada() {
+        verificarAlteravel();
+        for (CampoTarefa campo : CAMPOS) {
+            marcar(campo);
+        }
+    }
+
+    public void limparAlteracoes() {
+        verificarAlteravel();
+        estado &= MASCARA_STATUS;
     }
 
     public void setId(long id) {
+        verificarAlteravel();
         if(this.id == 0) {
              this.id = id;
         } else {
@@ -80,9 +174,31 @@ public class Tarefa {
     }
 
     void setStatus(StatusTarefa status) {
-        this.status = status;
+        verificarAlteravel();
+        if (status != getStatus()) {
+            definirStatus(status);
+            marcar(CampoTarefa.STATUS);
+        }
      }
 
+    private void definirStatus(StatusTarefa status) {
+        estado = (byte) ((estado & ~MASCARA_STATUS) | (status != null ? status.ordinal() + 1 : 0));
+    }
+
+    private void verificarAlteravel() {
+        if (estaCongelada()) {
+            throw new UnsupportedOperationException("Tarefa " + id + " é uma cópia somente leitura.");
+        }
+    }
+
+    private void marcar(CampoTarefa campo) {
+        estado |= bit(campo);
+    }
+
+    private static int bit(CampoTarefa campo) {
+        return 1 << (INICIO_ALTERACOES + campo.ordinal());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -102,8 +218,8 @@ public class Tarefa {
                 "id=" + id +
                 ", titulo='" + titulo + '\'' +
                 ", descricao='" + (descricao != null ? descricao : "") + '\'' +
-                ", dataVencimento=" + (dataVencimento != null ? dataVencimento : "N/A") +
-                ", status=" + status +
+                ", dataVencimento=" + (diaVencimento != SEM_VENCIMENTO ? getDataVencimento() : "N/A") +
+                ", status=" + getStatus() +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package main.java.com.todolist.eventos;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Um assinante de {@link PublicadorEventos}, com seu próprio buffer circular e uma thread que
+ * entrega os eventos ao consumidor na ordem de publicação.
+ * <p>
+ * O buffer tem um único produtor (o publicador) e um único consumidor (a thread do assinante) e
+ * não usa travas: as posições são controladas por dois contadores, {@code publicados} e
+ * {@code lidos}. Para descartar o evento mais antigo, o produtor avança {@code lidos} por CAS; o
+ * consumidor também só entrega um evento depois de avançar {@code lidos} por CAS, e assim nunca
+ * entrega uma posição que o produtor já reaproveitou.
+ */
+public final class Assinatura implements AutoCloseable {
+
+    private static final long ESPERA_MAXIMA_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long ESPERA_PRODUTOR_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Consumer<EventoTarefa> consumidor;
+    private final PoliticaContrapressao politica;
+    private final AtomicReferenceArray<EventoTarefa> buffer;
+    private final int mascara;
+    private final AtomicLong publicados = new AtomicLong();
+    private final AtomicLong lidos = new AtomicLong();
+    private final LongAdder entregues = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final Thread thread;
+    private final PublicadorEventos publicador;
+    private volatile boolean ativa = true;
+    private volatile boolean consumidorEsperando;
+    // Marcado antes do CAS que retira o evento do buffer, para que aguardarEntrega não termine
+    // entre a retirada e a entrega.
+    private volatile boolean entregando;
+
+    Assinatura(PublicadorEventos publicador, String nome, Consumer<EventoTarefa> consumidor, int capacidade,
+               PoliticaContrapressao politica) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do buffer deve ser positiva.");
+        }
+        int tamanho = capacidade == 1 ? 1 : Integer.highestOneBit(capacidade - 1) << 1;
+        this.consumidor = consumidor;
+        this.politica = politica;
+        this.buffer = new AtomicReferenceArray<>(tamanho);
+        this.mascara = tamanho - 1;
+        this.publicador = publicador;
+        this.thread = new Thread(this::consumir, nome);
+        this.thread.setDaemon(true);
+    }
+
+    void iniciar() {
+        thread.start();
+    }
+
+    // Chamado só pelo publicador, uma thread por vez.
+    void oferecer(EventoTarefa evento) {
+        long posicao = publicados.get();
+        while (posicao - lidos.get() > mascara) {
+            if (!ativa) {
+                return;
+            }
+            switch (politica) {
+                case DESCARTAR_NOVOS:
+                    descartados.increment();
+                    return;
+                case DESCARTAR_ANTIGOS:
+                    long maisAntigo = lidos.get();
+                    if (posicao - maisAntigo > mascara && lidos.compareAndSet(maisAntigo, maisAntigo + 1)) {
+                        descartados.increment();
+                    }
+                    break;
+                default:
+                    LockSupport.unpark(thread);
+                    LockSupport.parkNanos(this, ESPERA_PRODUTOR_NANOS);
+            }
+        }
+        buffer.set((int) (posicao & mascara), evento);
+        publicados.set(posicao + 1);
+        if (consumidorEsperando) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void consumir() {
+        while (ativa) {
+            long posicao = lidos.get();
+            if (posicao == publicados.get()) {
+                consumidorEsperando = true;
+                if (posicao == publicados.get() && ativa) {
+                    LockSupport.parkNanos(this, ESPERA_MAXIMA_NANOS);
+                }
+                consumidorEsperando = false;
+                continue;
+            }
+            EventoTarefa evento = buffer.get((int) (posicao & mascara));
+            entregando = true;
+            if (!lidos.compareAndSet(posicao, posicao + 1)) {
+                // O produtor descartou esta posição enquanto ela era lida.
+                entregando = false;
+                continue;
+            }
+            try {
+                consumidor.accept(evento);
+            } catch (RuntimeException e) {
+                System.err.println("AVISO: Assinante de eventos falhou ao processar " + evento + ": " + e.getMessage());
+            } finally {
+                entregues.increment();
+                entregando = false;
+            }
+        }
+    }
+
+    /**
+     * Espera até que todos os eventos já publicados para este assinante tenham sido entregues.
+     * @return false se o tempo acabou antes disso.
+     */
+    public boolean aguardarEntrega(Duration limite) {
+        long prazo = System.nanoTime() + limite.toNanos();
+        long alvo = publicados.get();
+        while ((lidos.get() < alvo || entregando) && ativa) {
+            if (System.nanoTime() - prazo >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(ESPERA_PRODUTOR_NANOS);
+        }
+        return true;
+    }
+
+    public long getEntregues() {
+        return entregues.sum();
+    }
+
+    /**
+     * @return Eventos que este assinante não recebeu por causa da política de contrapressão.
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    /**
+     * @return Eventos no buffer ainda não entregues.
+     */
+    public long getPendentes() {
+        return publicados.get() - lidos.get();
+    }
+
+    public PoliticaContrapressao getPolitica() {
+        return politica;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    /**
+     * Encerra a assinatura. Eventos ainda no buffer não são entregues; use
+     * {@link #aguardarEntrega(Duration)} antes, se precisar deles.
+     */
+    @Override
+    public void close() {
+        if (!ativa) {
+            return;
+        }
+        ativa = false;
+        LockSupport.unpark(thread);
+        publicador.remover(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package main.java.com.todolist.eventos;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.time.Instant;
+
+/**
+ * Uma alteração feita pelo gerenciador. {@code antes} e {@code depois} são cópias congeladas da
+ * tarefa ({@link Tarefa#congelada()}), independentes da instância viva e compartilhadas entre os assinantes.
+ * {@code antes} é nulo em {@link TipoEvento#CRIADA} e {@code depois} é nulo em {@link TipoEvento#EXCLUIDA}.
+ */
+public final class EventoTarefa {
+
+    private final long sequencia;
+    private final TipoEvento tipo;
+    private final long idTarefa;
+    private final Tarefa antes;
+    private final Tarefa depois;
+    private final Instant instante;
+
+    EventoTarefa(long sequencia, TipoEvento tipo, Tarefa antes, Tarefa depois, Instant instante) {
+        this.sequencia = sequencia;
+        this.tipo = tipo;
+        this.idTarefa = depois != null ? depois.getId() : antes.getId();
+        this.antes = antes;
+        this.depois = depois;
+        this.instante = instante;
+    }
+
+    /**
+     * @return Número crescente do evento no publicador; lacunas indicam eventos descartados.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public Tarefa getAntes() {
+        return antes;
+    }
+
+    public Tarefa getDepois() {
+        return depois;
+    }
+
+    public Instant getInstante() {
+        return instante;
+    }
+
+    @Override
+    public String toString() {
+        return "EventoTarefa{sequencia=" + sequencia + ", tipo=" + tipo + ", idTarefa=" + idTarefa + '}';
+    }
+}
\ No newline at end of file
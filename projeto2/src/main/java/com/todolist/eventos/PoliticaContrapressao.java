@@ -0,0 +1,17 @@
+package main.java.com.todolist.eventos;
+
+/**
+ * O que fazer quando o buffer de um assinante está cheio porque ele consome mais devagar do que
+ * os eventos são publicados.
+ */
+public enum PoliticaContrapressao {
+    /**
+     * O publicador espera o assinante liberar espaço. Nenhum evento é perdido, mas a operação do
+     * gerenciador que publicou fica parada; o assinante não deve chamar o gerenciador.
+     */
+    BLOQUEAR,
+    /** O evento novo não é entregue a este assinante. */
+    DESCARTAR_NOVOS,
+    /** O evento mais antigo ainda não consumido é descartado para dar lugar ao novo. */
+    DESCARTAR_ANTIGOS
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package main.java.com.todolist.eventos;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.time.Instant;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Distribui os eventos de alteração das tarefas para vários assinantes. Cada assinante tem um
+ * buffer circular limitado e sua própria thread, de modo que um assinante lento não atrasa os
+ * demais; o que acontece quando o buffer dele enche é definido por sua {@link PoliticaContrapressao}.
+ * <p>
+ * Sem assinantes, publicar não faz nada. Os eventos recebem números de sequência crescentes, na
+ * ordem em que foram publicados.
+ */
+public class PublicadorEventos implements AutoCloseable {
+
+    public static final int CAPACIDADE_PADRAO = 1024;
+
+    private final CopyOnWriteArrayList<Assinatura> assinaturas = new CopyOnWriteArrayList<>();
+    private final AtomicInteger contadorAssinaturas = new AtomicInteger();
+    private long sequencia;
+
+    /**
+     * Assina com buffer de {@link #CAPACIDADE_PADRAO} eventos, descartando os mais antigos se ele encher.
+     */
+    public Assinatura assinar(Consumer<EventoTarefa> consumidor) {
+        return assinar(consumidor, CAPACIDADE_PADRAO, PoliticaContrapressao.DESCARTAR_ANTIGOS);
+    }
+
+    /**
+     * @param consumidor Recebe os eventos, em ordem, numa thread própria desta assinatura.
+     * @param capacidade Tamanho do buffer; é arredondado para a próxima potência de dois.
+     * @param politica O que fazer quando o buffer está cheio.
+     * @return A assinatura, que deve ser fechada quando não for mais usada.
+     */
+    public Assinatura assinar(Consumer<EventoTarefa> consumidor, int capacidade, PoliticaContrapressao politica) {
+        String nome = "eventos-tarefas-" + contadorAssinaturas.incrementAndGet();
+        Assinatura assinatura = new Assinatura(this, nome, consumidor, capacidade, politica);
+        assinaturas.add(assinatura);
+        assinatura.iniciar();
+        return assinatura;
+    }
+
+    void remover(Assinatura assinatura) {
+        assinaturas.remove(assinatura);
+    }
+
+    public boolean temAssinantes() {
+        return !assinaturas.isEmpty();
+    }
+
+    /**
+     * @param antes Cópia da tarefa antes da alteração, ou null se ela foi criada.
+     * @param depois Cópia da tarefa depois da alteração, ou null se ela foi excluída.
+     */
+    public synchronized void publicar(TipoEvento tipo, Tarefa antes, Tarefa depois) {
+        if (assinaturas.isEmpty()) {
+            return;
+        }
+        EventoTarefa evento = new EventoTarefa(++sequencia, tipo, antes, depois, Instant.now());
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.oferecer(evento);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package main.java.com.todolist.eventos;
+
+public enum TipoEvento {
+    CRIADA,
+    ATUALIZADA,
+    STATUS_ALTERADO,
+    EXCLUIDA
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package main.java.com.todolist.metricas;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementação de {@link Metricas} que mantém contagens, histogramas de latência e o último erro
+ * de cada operação. Pode publicar os valores como MBeans JMX e imprimir um relatório periódico.
+ */
+public class ColetorMetricas implements Metricas, AutoCloseable {
+
+    private static final String DOMINIO_JMX = "com.todolist";
+
+    private final Map<OperacaoMedida, MetricasOperacao> porOperacao = new EnumMap<>(OperacaoMedida.class);
+    private final List<ObjectName> registrados = new ArrayList<>();
+    private ScheduledExecutorService relatorioPeriodico;
+
+    public ColetorMetricas() {
+        for (OperacaoMedida operacao : OperacaoMedida.values()) {
+            porOperacao.put(operacao, new MetricasOperacao(operacao));
+        }
+    }
+
+    @Override
+    public long iniciar() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void registrar(OperacaoMedida operacao, long inicio) {
+        porOperacao.get(operacao).getLatencias().registrar(System.nanoTime() - inicio);
+    }
+
+    @Override
+    public void registrarFalha(OperacaoMedida operacao, Throwable erro) {
+        porOperacao.get(operacao).registrarFalha(erro);
+    }
+
+    public MetricasOperacao de(OperacaoMedida operacao) {
+        return porOperacao.get(operacao);
+    }
+
+    /**
+     * Registra um MBean por operação como {@code com.todolist:type=Metricas,nome=<nome>,operacao=<OPERACAO>}.
+     * @param nome Distingue coletores de gerenciadores diferentes na mesma JVM.
+     */
+    public synchronized void publicarJmx(String nome) {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (MetricasOperacao metricas : porOperacao.values()) {
+            try {
+                ObjectName objeto = new ObjectName(DOMINIO_JMX + ":type=Metricas,nome=" + ObjectName.quote(nome)
+                        + ",operacao=" + metricas.getOperacao().name());
+                servidor.registerMBean(metricas, objeto);
+                registrados.add(objeto);
+            } catch (InstanceAlreadyExistsException e) {
+                System.err.println("AVISO: Métricas JMX já publicadas com o nome " + nome + ".");
+                return;
+            } catch (JMException e) {
+                System.err.println("AVISO: Não foi possível publicar métricas via JMX: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    public synchronized void iniciarRelatorioPeriodico(Duration intervalo, PrintStream saida) {
+        if (relatorioPeriodico != null) {
+            return;
+        }
+        long periodo = intervalo.toMillis();
+        if (periodo <= 0) {
+            throw new IllegalArgumentException("Intervalo do relatório deve ser positivo.");
+        }
+        relatorioPeriodico = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "relatorio-metricas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relatorioPeriodico.scheduleAtFixedRate(() -> saida.print(relatorio()), periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return Uma linha por operação executada ao menos uma vez, com tempos em microssegundos.
+     */
+    public String relatorio() {
+        StringBuilder texto = new StringBuilder("--- Métricas ---\n");
+        for (MetricasOperacao m : porOperacao.values()) {
+            if (m.getExecucoes() == 0 && m.getFalhas() == 0) {
+                continue;
+            }
+            texto.append(String.format("%-24s n=%d falhas=%d média=%dus p50=%dus p99=%dus máx=%dus%n",
+                    m.getOperacao(), m.getExecucoes(), m.getFalhas(), m.getMediaMicros(),
+                    m.getP50Micros(), m.getP99Micros(), m.getMaximoMicros()));
+            if (m.getUltimoErro() != null) {
+                texto.append("    último erro: ").append(m.getUltimoErro()).append('\n');
+            }
+        }
+        return texto.toString();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (relatorioPeriodico != null) {
+            relatorioPeriodico.shutdownNow();
+            relatorioPeriodico = null;
+        }
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objeto : registrados) {
+            try {
+                servidor.unregisterMBean(objeto);
+            } catch (JMException e) {
+                // Já removido.
+            }
+        }
+        registrados.clear();
+    }
+}
\ No newline at end of file
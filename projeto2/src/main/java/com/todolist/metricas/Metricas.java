@@ -0,0 +1,41 @@
+package main.java.com.todolist.metricas;
+
+/**
+ * Ponto de extensão para medir operações do gerenciador e da persistência.
+ * <p>
+ * Uso: {@code long inicio = metricas.iniciar(); try { ... } finally { metricas.registrar(operacao, inicio); }}.
+ * A implementação {@link #DESATIVADAS} não lê o relógio nem guarda nada, para que a instrumentação
+ * desligada custe só uma chamada vazia.
+ */
+public interface Metricas {
+
+    Metricas DESATIVADAS = new Metricas() {
+        @Override
+        public long iniciar() {
+            return 0L;
+        }
+
+        @Override
+        public void registrar(OperacaoMedida operacao, long inicio) {
+        }
+
+        @Override
+        public void registrarFalha(OperacaoMedida operacao, Throwable erro) {
+        }
+    };
+
+    /**
+     * @return Marca de tempo a ser passada para {@link #registrar}.
+     */
+    long iniciar();
+
+    /**
+     * Registra uma execução da operação iniciada em {@code inicio}.
+     */
+    void registrar(OperacaoMedida operacao, long inicio);
+
+    /**
+     * Registra uma falha da operação; a execução em si continua sendo registrada por {@link #registrar}.
+     */
+    void registrarFalha(OperacaoMedida operacao, Throwable erro);
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package main.java.com.todolist.metricas;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MetricasOperacao implements MetricasOperacaoMBean {
+
+    private final OperacaoMedida operacao;
+    private final HistogramaLatencia latencias = new HistogramaLatencia();
+    private final LongAdder falhas = new LongAdder();
+    private final AtomicReference<UltimoErro> ultimoErro = new AtomicReference<>();
+
+    MetricasOperacao(OperacaoMedida operacao) {
+        this.operacao = operacao;
+    }
+
+    public OperacaoMedida getOperacao() {
+        return operacao;
+    }
+
+    public HistogramaLatencia getLatencias() {
+        return latencias;
+    }
+
+    void registrarFalha(Throwable erro) {
+        falhas.increment();
+        ultimoErro.set(new UltimoErro(erro.getClass().getSimpleName() + ": " + erro.getMessage(), System.currentTimeMillis()));
+    }
+
+    @Override
+    public long getExecucoes() {
+        return latencias.quantidade();
+    }
+
+    @Override
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    @Override
+    public long getMediaMicros() {
+        return latencias.media() / 1_000;
+    }
+
+    @Override
+    public long getP50Micros() {
+        return latencias.percentil(50) / 1_000;
+    }
+
+    @Override
+    public long getP99Micros() {
+        return latencias.percentil(99) / 1_000;
+    }
+
+    @Override
+    public long getMaximoMicros() {
+        return latencias.maximo() / 1_000;
+    }
+
+    @Override
+    public String getUltimoErro() {
+        UltimoErro erro = ultimoErro.get();
+        return erro != null ? erro.mensagem : null;
+    }
+
+    @Override
+    public long getUltimoErroEpochMillis() {
+        UltimoErro erro = ultimoErro.get();
+        return erro != null ? erro.instante : 0L;
+    }
+
+    private static final class UltimoErro {
+        private final String mensagem;
+        private final long instante;
+
+        UltimoErro(String mensagem, long instante) {
+            this.mensagem = mensagem;
+            this.instante = instante;
+        }
+    }
+}
\ No newline at end of file
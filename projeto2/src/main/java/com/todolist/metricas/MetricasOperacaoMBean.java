@@ -0,0 +1,21 @@
+package main.java.com.todolist.metricas;
+
+// Atributos JMX de uma operação medida; tempos em microssegundos.
+public interface MetricasOperacaoMBean {
+
+    long getExecucoes();
+
+    long getFalhas();
+
+    long getMediaMicros();
+
+    long getP50Micros();
+
+    long getP99Micros();
+
+    long getMaximoMicros();
+
+    String getUltimoErro();
+
+    long getUltimoErroEpochMillis();
+}
\ No newline at end of file
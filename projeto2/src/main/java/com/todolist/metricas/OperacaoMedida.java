@@ -0,0 +1,18 @@
+package main.java.com.todolist.metricas;
+
+public enum OperacaoMedida {
+    ADICIONAR_TAREFA,
+    ADICIONAR_EM_LOTE,
+    BUSCAR_POR_ID,
+    BUSCAR_POR_TEXTO,
+    LISTAR,
+    INSTANTANEO,
+    ATUALIZAR_TAREFA,
+    ALTERAR_STATUS,
+    EXCLUIR_TAREFA,
+    EXCLUIR_EM_LOTE,
+    PERSISTENCIA_CARREGAR,
+    PERSISTENCIA_SALVAR,
+    PERSISTENCIA_SALVAR_DELTA,
+    PERSISTENCIA_REGISTRAR
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package main.java.com.todolist.persistence;
+
+// Quanto esperar do disco a cada gravação. Em todos os níveis o arquivo é gravado num temporário
+// e movido atomicamente, então uma queda do processo nunca deixa o arquivo truncado.
+public enum Durabilidade {
+    /** Não força o disco: uma queda do sistema operacional pode perder as últimas gravações. */
+    SEM_FSYNC,
+    /** Força o arquivo e o diretório em cada gravação. */
+    FSYNC_POR_GRAVACAO
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.List;
+
+/**
+ * Acesso a um arquivo de tarefas dividido em blocos que podem ser lidos de forma independente,
+ * inclusive em paralelo.
+ */
+public interface LeitorBlocos extends AutoCloseable {
+
+    /**
+     * @return Quantidade total de tarefas, lida do cabeçalho sem decodificar os blocos.
+     */
+    long quantidadeTarefas();
+
+    /**
+     * @return Maior ID gravado, lido do cabeçalho sem decodificar os blocos.
+     */
+    long maiorId();
+
+    int quantidadeBlocos();
+
+    /**
+     * @return Menor ID do bloco, ou {@link Long#MIN_VALUE} se o arquivo não registra essa informação.
+     */
+    long menorIdDoBloco(int bloco);
+
+    /**
+     * @return Maior ID do bloco, ou {@link Long#MAX_VALUE} se o arquivo não registra essa informação.
+     */
+    long maiorIdDoBloco(int bloco);
+
+    /**
+     * Decodifica um bloco. Pode ser chamado por várias threads ao mesmo tempo.
+     * @param bloco Índice do bloco, de 0 a {@link #quantidadeBlocos()} - 1.
+     * @return As tarefas do bloco, na ordem do arquivo.
+     * @throws PersistenciaException Se o bloco não puder ser lido.
+     */
+    List<Tarefa> lerBloco(int bloco) throws PersistenciaException;
+
+    @Override
+    void close() throws PersistenciaException;
+}
\ No newline at end of file
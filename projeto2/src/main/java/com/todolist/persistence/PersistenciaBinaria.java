@@ -0,0 +1,496 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Persistência em formato binário compacto.
+ * <p>
+ * Layout (inteiros fixos em little-endian):
+ * <pre>
+ * cabeçalho (32 bytes): "TDLB" | versão (1) | reservado (3) | quantidade (8) | maior ID (8) | posição do índice (8)
+ * blocos:               quantidade (varint) | registros...
+ * índice:               número de blocos (varint) | por bloco: posição (8), quantidade (4), menor ID (8) e maior ID (8)
+ * registro:             ID (varint) | flags (1) | status ordinal (1) | [dia epoch (zigzag varint)] | título | [descrição]
+ * texto:                (tamanho &lt;&lt; 1) seguido dos bytes UTF-8, ou (posição no dicionário &lt;&lt; 1 | 1)
+ * </pre>
+ * Cada bloco tem seu próprio dicionário de textos repetidos, então pode ser decodificado isoladamente.
+ * A versão 1 do formato não tinha a faixa de IDs no índice e continua sendo lida.
+ */
+public class PersistenciaBinaria implements PersistenciaEmBlocos {
+
+    static final byte[] ASSINATURA = {'T', 'D', 'L', 'B'};
+    static final int VERSAO_FORMATO = 2;
+    private static final int VERSAO_SEM_FAIXA_DE_IDS = 1;
+    static final int TAMANHO_CABECALHO = 32;
+    static final int TAREFAS_POR_BLOCO = 4096;
+    // ID, flags, status e o marcador do título ocupam ao menos um byte cada.
+    static final int TAMANHO_MINIMO_REGISTRO = 4;
+
+    private static final int FLAG_DESCRICAO = 1;
+    private static final int FLAG_DATA = 1 << 1;
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+
+    private final Path caminhoArquivo;
+
+    public PersistenciaBinaria(String nomeArquivo) {
+        this.caminhoArquivo = Paths.get(nomeArquivo);
+    }
+
+    @Override
+    public void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        salvar(tarefas.iterator());
+    }
+
+    /**
+     * Grava as tarefas à medida que o iterador as produz; só um bloco fica em memória.
+     * @param tarefas Iterador das tarefas a serem salvas.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    public void salvar(Iterator<Tarefa> tarefas) throws PersistenciaException {
+        try (Escritor escritor = abrirEscritor()) {
+            while (tarefas.hasNext()) {
+                escritor.escrever(tarefas.next());
+            }
+            escritor.concluir();
+        }
+    }
+
+    @Override
+    public List<Tarefa> carregar() throws PersistenciaException {
+        List<Tarefa> tarefas = new ArrayList<>();
+        carregar(tarefas::add);
+        return tarefas;
+    }
+
+    /**
+     * Lê as tarefas bloco a bloco, entregando cada uma ao consumidor na ordem do arquivo.
+     * @param consumidor Recebe cada tarefa lida.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    public void carregar(Consumer<Tarefa> consumidor) throws PersistenciaException {
+        if (!Files.exists(caminhoArquivo) || caminhoArquivo.toFile().length() == 0) {
+            return;
+        }
+        try (FileChannel canal = FileChannel.open(caminhoArquivo, StandardOpenOption.READ)) {
+            long[][] indice = lerIndice(canal, lerCabecalho(canal));
+            for (long[] bloco : indice) {
+                ByteBuffer dados = ByteBuffer.allocate((int) bloco[1]);
+                lerTudo(canal, dados, bloco[0]);
+                dados.flip();
+                decodificarBloco(dados, consumidor);
+            }
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException | DateTimeException e) {
+            throw new PersistenciaException("Erro ao carregar tarefas do arquivo binário: " + caminhoArquivo + ". O arquivo pode estar corrompido.", e);
+        }
+    }
+
+    /**
+     * Converte um arquivo JSON existente para este formato, uma tarefa por vez.
+     * @param origem Persistência JSON de onde as tarefas são lidas.
+     * @return Quantidade de tarefas convertidas.
+     * @throws PersistenciaException Se ocorrer um erro na leitura ou na gravação.
+     */
+    public long converterDe(PersistenciaJson origem) throws PersistenciaException {
+        try (Escritor escritor = abrirEscritor()) {
+            origem.carregar(escritor::escrever);
+            escritor.concluir();
+            return escritor.quantidade;
+        }
+    }
+
+    @Override
+    public LeitorBlocos abrirLeitorBlocos() throws PersistenciaException {
+        if (!Files.exists(caminhoArquivo) || caminhoArquivo.toFile().length() == 0) {
+            return new Leitor(null, new long[] {VERSAO_FORMATO, 0, 0, 0}, new long[0][]);
+        }
+        FileChannel canal = null;
+        try {
+            canal = FileChannel.open(caminhoArquivo, StandardOpenOption.READ);
+            long[] cabecalho = lerCabecalho(canal);
+            return new Leitor(canal, cabecalho, lerIndice(canal, cabecalho));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException e) {
+            if (canal != null) {
+                try {
+                    canal.close();
+                } catch (IOException ignorada) {
+                    e.addSuppressed(ignorada);
+                }
+            }
+            throw new PersistenciaException("Erro ao carregar tarefas do arquivo binário: " + caminhoArquivo + ". O arquivo pode estar corrompido.", e);
+        }
+    }
+
+    Escritor abrirEscritor() throws PersistenciaException {
+        try {
+            Path parentDir = caminhoArquivo.toAbsolutePath().getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            return new Escritor(caminhoArquivo.resolveSibling(caminhoArquivo.getFileName() + ".tmp"));
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao salvar tarefas no arquivo binário: " + caminhoArquivo, e);
+        }
+    }
+
+    // Retorna {versão, quantidade, maior ID, posição do índice}.
+    static long[] lerCabecalho(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+        lerTudo(canal, cabecalho, 0);
+        cabecalho.flip();
+        byte[] assinatura = new byte[ASSINATURA.length];
+        cabecalho.get(assinatura);
+        if (!Arrays.equals(assinatura, ASSINATURA)) {
+            throw new IOException("Assinatura de arquivo binário de tarefas inválida.");
+        }
+        int versao = cabecalho.get() & 0xFF;
+        if (versao != VERSAO_FORMATO && versao != VERSAO_SEM_FAIXA_DE_IDS) {
+            throw new IOException("Versão de formato não suportada: " + versao);
+        }
+        long quantidade = cabecalho.getLong(8);
+        long posicaoIndice = cabecalho.getLong(24);
+        if (posicaoIndice < TAMANHO_CABECALHO || posicaoIndice > canal.size()) {
+            throw new IOException("Posição do índice fora do arquivo: " + posicaoIndice);
+        }
+        // A quantidade vem do arquivo e dimensiona estruturas na carga; não pode passar do que cabe nos blocos.
+        if (quantidade < 0 || quantidade > (posicaoIndice - TAMANHO_CABECALHO) / TAMANHO_MINIMO_REGISTRO) {
+            throw new IOException("Quantidade de tarefas incompatível com o tamanho do arquivo: " + quantidade);
+        }
+        return new long[] {versao, quantidade, cabecalho.getLong(16), posicaoIndice};
+    }
+
+    // Cada entrada: {posição do bloco, tamanho em bytes, quantidade de tarefas, menor ID, maior ID}.
+    static long[][] lerIndice(FileChannel canal, long[] cabecalho) throws IOException {
+        boolean temFaixaDeIds = cabecalho[0] != VERSAO_SEM_FAIXA_DE_IDS;
+        long posicaoIndice = cabecalho[3];
+        ByteBuffer dados = ByteBuffer.allocate((int) (canal.size() - posicaoIndice)).order(ByteOrder.LITTLE_ENDIAN);
+        lerTudo(canal, dados, posicaoIndice);
+        dados.flip();
+        long blocosLidos = lerVarint(dados);
+        if (blocosLidos < 0 || blocosLidos > dados.remaining() / (temFaixaDeIds ? 28 : 12)) {
+            throw new IOException("Número de blocos inválido no índice: " + blocosLidos);
+        }
+        int blocos = (int) blocosLidos;
+        long[][] indice = new long[blocos][];
+        for (int i = 0; i < blocos; i++) {
+            long posicao = dados.getLong();
+            int quantidade = dados.getInt();
+            long menorId = temFaixaDeIds ? dados.getLong() : Long.MIN_VALUE;
+            long maiorId = temFaixaDeIds ? dados.getLong() : Long.MAX_VALUE;
+            indice[i] = new long[] {posicao, 0, quantidade, menorId, maiorId};
+        }
+        for (int i = 0; i < blocos; i++) {
+            long fim = i + 1 < blocos ? indice[i + 1][0] : posicaoIndice;
+            indice[i][1] = fim - indice[i][0];
+            if (indice[i][0] < TAMANHO_CABECALHO || indice[i][1] < 0 || indice[i][1] > Integer.MAX_VALUE
+                    || indice[i][2] < 0 || indice[i][2] > indice[i][1] / TAMANHO_MINIMO_REGISTRO) {
+                throw new IOException("Entrada " + i + " do índice inválida.");
+            }
+        }
+        return indice;
+    }
+
+    static void decodificarBloco(ByteBuffer dados, Consumer<Tarefa> consumidor) {
+        long quantidade = lerVarint(dados);
+        if (quantidade < 0 || quantidade > dados.remaining() / TAMANHO_MINIMO_REGISTRO) {
+            throw new IllegalStateException("Quantidade de tarefas inválida no bloco: " + quantidade);
+        }
+        List<String> dicionario = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            long id = lerVarint(dados);
+            int flags = dados.get();
+            int ordinal = dados.get();
+            if (ordinal < 0 || ordinal >= STATUS.length) {
+                throw new IllegalStateException("Status inválido no registro " + id + ": " + ordinal);
+            }
+            LocalDate data = (flags & FLAG_DATA) != 0 ? LocalDate.ofEpochDay(zigzagDecodificar(lerVarint(dados))) : null;
+            String titulo = lerTexto(dados, dicionario);
+            String descricao = (flags & FLAG_DESCRICAO) != 0 ? lerTexto(dados, dicionario) : null;
+            consumidor.accept(new Tarefa(id, titulo, descricao, data, STATUS[ordinal]));
+        }
+    }
+
+    private static String lerTexto(ByteBuffer dados, List<String> dicionario) {
+        long marcador = lerVarint(dados);
+        if ((marcador & 1) != 0) {
+            return dicionario.get((int) (marcador >>> 1));
+        }
+        int tamanho = (int) (marcador >>> 1);
+        String texto = new String(dados.array(), dados.arrayOffset() + dados.position(), tamanho, StandardCharsets.UTF_8);
+        dados.position(dados.position() + tamanho);
+        dicionario.add(texto);
+        return texto;
+    }
+
+    static long lerVarint(ByteBuffer dados) {
+        long valor = 0;
+        int deslocamento = 0;
+        while (true) {
+            byte b = dados.get();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+            deslocamento += 7;
+            if (deslocamento > 63) {
+                throw new IllegalStateException("Varint malformado.");
+            }
+        }
+    }
+
+    static void escreverVarintNoBuffer(ByteBuffer destino, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    private static long zigzagCodificar(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    private static long zigzagDecodificar(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    static void lerTudo(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                throw new IOException("Fim inesperado do arquivo binário de tarefas.");
+            }
+            posicao += lidos;
+        }
+    }
+
+    // Os blocos são lidos por posição no canal, o que permite leituras simultâneas.
+    private final class Leitor implements LeitorBlocos {
+        private final FileChannel canal;
+        private final long[] cabecalho;
+        private final long[][] indice;
+
+        Leitor(FileChannel canal, long[] cabecalho, long[][] indice) {
+            this.canal = canal;
+            this.cabecalho = cabecalho;
+            this.indice = indice;
+        }
+
+        @Override
+        public long quantidadeTarefas() {
+            return cabecalho[1];
+        }
+
+        @Override
+        public long maiorId() {
+            return cabecalho[2];
+        }
+
+        @Override
+        public int quantidadeBlocos() {
+            return indice.length;
+        }
+
+        @Override
+        public long menorIdDoBloco(int bloco) {
+            return indice[bloco][3];
+        }
+
+        @Override
+        public long maiorIdDoBloco(int bloco) {
+            return indice[bloco][4];
+        }
+
+        @Override
+        public List<Tarefa> lerBloco(int bloco) throws PersistenciaException {
+            try {
+                ByteBuffer dados = ByteBuffer.allocate((int) indice[bloco][1]);
+                lerTudo(canal, dados, indice[bloco][0]);
+                dados.flip();
+                List<Tarefa> tarefas = new ArrayList<>((int) indice[bloco][2]);
+                decodificarBloco(dados, tarefas::add);
+                return tarefas;
+            } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException | DateTimeException e) {
+                throw new PersistenciaException("Erro ao carregar bloco " + bloco + " do arquivo binário: " + caminhoArquivo + ". O arquivo pode estar corrompido.", e);
+            }
+        }
+
+        @Override
+        public void close() throws PersistenciaException {
+            if (canal == null) {
+                return;
+            }
+            try {
+                canal.close();
+            } catch (IOException e) {
+                throw new PersistenciaException("Erro ao fechar arquivo binário: " + caminhoArquivo, e);
+            }
+        }
+    }
+
+    // Grava blocos num arquivo temporário e o move para o destino ao fechar.
+    final class Escritor implements AutoCloseable {
+        private final Path temporario;
+        private final FileChannel canal;
+        private final Map<String, Integer> dicionario = new HashMap<>();
+        private final List<long[]> indice = new ArrayList<>();
+        private byte[] bloco = new byte[64 * 1024];
+        private int tamanhoBloco;
+        private int tarefasNoBloco;
+        private long menorIdNoBloco = Long.MAX_VALUE;
+        private long maiorIdNoBloco = Long.MIN_VALUE;
+        private long quantidade;
+        private long maiorId;
+        private long posicao = TAMANHO_CABECALHO;
+        private boolean concluido;
+
+        Escritor(Path temporario) throws IOException {
+            this.temporario = temporario;
+            this.canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void escrever(Tarefa tarefa) {
+            escreverVarint(tarefa.getId());
+            int flags = (tarefa.getDescricao() != null ? FLAG_DESCRICAO : 0)
+                    | (tarefa.getDataVencimento() != null ? FLAG_DATA : 0);
+            garantirEspaco(2);
+            bloco[tamanhoBloco++] = (byte) flags;
+            bloco[tamanhoBloco++] = (byte) (tarefa.getStatus() != null ? tarefa.getStatus() : StatusTarefa.PENDENTE).ordinal();
+            if (tarefa.getDataVencimento() != null) {
+                escreverVarint(zigzagCodificar(tarefa.getDataVencimento().toEpochDay()));
+            }
+            escreverTexto(tarefa.getTitulo());
+            if (tarefa.getDescricao() != null) {
+                escreverTexto(tarefa.getDescricao());
+            }
+            quantidade++;
+            maiorId = Math.max(maiorId, tarefa.getId());
+            menorIdNoBloco = Math.min(menorIdNoBloco, tarefa.getId());
+            maiorIdNoBloco = Math.max(maiorIdNoBloco, tarefa.getId());
+            if (++tarefasNoBloco == TAREFAS_POR_BLOCO) {
+                try {
+                    descarregarBloco();
+                } catch (IOException e) {
+                    throw new PersistenciaException("Erro ao salvar tarefas no arquivo binário: " + caminhoArquivo, e);
+                }
+            }
+        }
+
+        // Grava índice e cabeçalho e só então publica o arquivo no destino.
+        void concluir() throws PersistenciaException {
+            try {
+                if (tarefasNoBloco > 0) {
+                    descarregarBloco();
+                }
+                long posicaoIndice = posicao;
+                ByteBuffer dadosIndice = ByteBuffer.allocate(10 + indice.size() * 28).order(ByteOrder.LITTLE_ENDIAN);
+                escreverVarintNoBuffer(dadosIndice, indice.size());
+                for (long[] entrada : indice) {
+                    dadosIndice.putLong(entrada[0]);
+                    dadosIndice.putInt((int) entrada[1]);
+                    dadosIndice.putLong(entrada[2]);
+                    dadosIndice.putLong(entrada[3]);
+                }
+                dadosIndice.flip();
+                escreverTudo(dadosIndice, posicaoIndice);
+
+                ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+                cabecalho.put(ASSINATURA).put((byte) VERSAO_FORMATO).put(new byte[3]);
+                cabecalho.putLong(quantidade).putLong(maiorId).putLong(posicaoIndice);
+                cabecalho.flip();
+                escreverTudo(cabecalho, 0);
+                canal.close();
+                Files.move(temporario, caminhoArquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                concluido = true;
+            } catch (IOException e) {
+                throw new PersistenciaException("Erro ao salvar tarefas no arquivo binário: " + caminhoArquivo, e);
+            }
+        }
+
+        // Sem concluir(), descarta o temporário e o arquivo de destino fica intacto.
+        @Override
+        public void close() throws PersistenciaException {
+            if (concluido) {
+                return;
+            }
+            try {
+                canal.close();
+                Files.deleteIfExists(temporario);
+            } catch (IOException e) {
+                throw new PersistenciaException("Erro ao descartar arquivo temporário: " + temporario, e);
+            }
+        }
+
+        private void descarregarBloco() throws IOException {
+            ByteBuffer dados = ByteBuffer.allocate(5 + tamanhoBloco);
+            escreverVarintNoBuffer(dados, tarefasNoBloco);
+            dados.put(bloco, 0, tamanhoBloco).flip();
+            indice.add(new long[] {posicao, tarefasNoBloco, menorIdNoBloco, maiorIdNoBloco});
+            posicao += escreverTudo(dados, posicao);
+            tamanhoBloco = 0;
+            tarefasNoBloco = 0;
+            menorIdNoBloco = Long.MAX_VALUE;
+            maiorIdNoBloco = Long.MIN_VALUE;
+            dicionario.clear();
+        }
+
+        private int escreverTudo(ByteBuffer dados, long destino) throws IOException {
+            int total = dados.remaining();
+            while (dados.hasRemaining()) {
+                destino += canal.write(dados, destino);
+            }
+            return total;
+        }
+
+        private void escreverTexto(String texto) {
+            Integer referencia = dicionario.get(texto);
+            if (referencia != null) {
+                escreverVarint(((long) referencia << 1) | 1);
+                return;
+            }
+            dicionario.put(texto, dicionario.size());
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            escreverVarint((long) bytes.length << 1);
+            garantirEspaco(bytes.length);
+            System.arraycopy(bytes, 0, bloco, tamanhoBloco, bytes.length);
+            tamanhoBloco += bytes.length;
+        }
+
+        private void escreverVarint(long valor) {
+            garantirEspaco(10);
+            while ((valor & ~0x7FL) != 0) {
+                bloco[tamanhoBloco++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            bloco[tamanhoBloco++] = (byte) valor;
+        }
+
+        private void garantirEspaco(int bytes) {
+            if (tamanhoBloco + bytes > bloco.length) {
+                bloco = Arrays.copyOf(bloco, Math.max(bloco.length * 2, tamanhoBloco + bytes));
+            }
+        }
+    }
+}
\ No newline at end of file
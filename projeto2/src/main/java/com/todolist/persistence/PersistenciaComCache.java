@@ -0,0 +1,272 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador com cache LRU de tamanho limitado para backends lentos ou remotos. As leituras por ID
+ * passam pelo cache (read-through) e as gravações por ID atualizam o backend e o cache
+ * (write-through). Operações sobre a lista inteira vão direto ao backend e esvaziam o cache.
+ * <p>
+ * As tarefas em cache são as mesmas instâncias lidas ou gravadas; quem alterar uma tarefa obtida
+ * por {@link #carregarTarefa(long)} deve gravá-la com {@link #salvarTarefa(Tarefa)}.
+ * <p>
+ * O cache só atende quem lê por ID diretamente. O {@code GerenciadorTarefas} mantém todas as
+ * tarefas em memória e não usa as operações por ID, então não se beneficia do cache.
+ * <p>
+ * Use {@link #de(PersistenciaTarefas, int)}: se o backend for {@link PersistenciaIncremental},
+ * o decorador também é, e os registros continuam chegando ao backend um a um.
+ */
+public class PersistenciaComCache implements PersistenciaTarefas {
+
+    private static final int NUMERO_VERSOES = 64;
+
+    private final PersistenciaTarefas persistencia;
+    private final int capacidade;
+    private final Map<Long, Tarefa> cache;
+    // Contam gravações e invalidações, por hash do ID e do cache inteiro; protegidos pela trava do cache.
+    private final long[] versoes = new long[NUMERO_VERSOES];
+    private long limpezas;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder remocoes = new LongAdder();
+
+    private PersistenciaComCache(PersistenciaTarefas persistencia, int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva.");
+        }
+        this.persistencia = persistencia;
+        this.capacidade = capacidade;
+        // Ordem de acesso: o primeiro elemento é sempre o usado há mais tempo.
+        this.cache = new LinkedHashMap<Long, Tarefa>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Tarefa> maisAntiga) {
+                if (size() > PersistenciaComCache.this.capacidade) {
+                    remocoes.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param persistencia Backend decorado.
+     * @param capacidade Quantidade máxima de tarefas mantidas no cache.
+     * @return Decorador que implementa {@link PersistenciaIncremental} se o backend implementar.
+     */
+    public static PersistenciaComCache de(PersistenciaTarefas persistencia, int capacidade) {
+        return persistencia instanceof PersistenciaIncremental
+                ? new Incremental((PersistenciaIncremental) persistencia, capacidade)
+                : new PersistenciaComCache(persistencia, capacidade);
+    }
+
+    @Override
+    public void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        try {
+            persistencia.salvar(tarefas);
+        } finally {
+            invalidarTudo();
+        }
+    }
+
+    // A lista completa não passa pelo cache: ela o esvaziaria sem ganho para as leituras por ID.
+    @Override
+    public List<Tarefa> carregar() throws PersistenciaException {
+        invalidarTudo();
+        return persistencia.carregar();
+    }
+
+    @Override
+    public Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        long versao;
+        synchronized (cache) {
+            Tarefa emCache = cache.get(id);
+            if (emCache != null) {
+                acertos.increment();
+                return Optional.of(emCache);
+            }
+            versao = versao(id);
+        }
+        falhas.increment();
+        // A leitura no backend acontece fora da trava. Se o ID foi gravado ou invalidado enquanto
+        // ela corria, o valor lido pode já estar velho e não entra no cache.
+        Optional<Tarefa> lida = persistencia.carregarTarefa(id);
+        if (lida.isPresent()) {
+            synchronized (cache) {
+                if (versao(id) == versao) {
+                    cache.put(id, lida.get());
+                }
+            }
+        }
+        return lida;
+    }
+
+    @Override
+    public void salvarTarefa(Tarefa tarefa) throws PersistenciaException {
+        gravarTarefa(tarefa, () -> persistencia.salvarTarefa(tarefa));
+    }
+
+    @Override
+    public void excluirTarefa(long id) throws PersistenciaException {
+        try {
+            persistencia.excluirTarefa(id);
+        } finally {
+            invalidar(id);
+        }
+    }
+
+    public void invalidar(long id) {
+        synchronized (cache) {
+            versoes[indiceVersao(id)]++;
+            cache.remove(id);
+        }
+    }
+
+    public void invalidarTudo() {
+        synchronized (cache) {
+            limpezas++;
+            cache.clear();
+        }
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public int getTamanho() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    public long getFalhas() {
+        return falhas.sum();
+    }
+
+    /**
+     * @return Tarefas descartadas do cache por falta de espaço.
+     */
+    public long getRemocoes() {
+        return remocoes.sum();
+    }
+
+    /**
+     * @return Fração das leituras por ID atendidas pelo cache, entre 0 e 1.
+     */
+    public double getTaxaAcertos() {
+        long a = acertos.sum();
+        long total = a + falhas.sum();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cache %d/%d, acertos=%d, falhas=%d, remoções=%d, taxa=%.1f%%",
+                getTamanho(), capacidade, getAcertos(), getFalhas(), getRemocoes(), getTaxaAcertos() * 100);
+    }
+
+    // Se o backend falhar, o estado gravado é incerto e a tarefa sai do cache.
+    void gravarTarefa(Tarefa tarefa, Runnable gravacao) throws PersistenciaException {
+        try {
+            gravacao.run();
+        } catch (RuntimeException e) {
+            invalidar(tarefa.getId());
+            throw e;
+        }
+        guardar(tarefa);
+    }
+
+    void guardar(Tarefa tarefa) {
+        synchronized (cache) {
+            versoes[indiceVersao(tarefa.getId())]++;
+            cache.put(tarefa.getId(), tarefa);
+        }
+    }
+
+    // Só cresce, então basta comparar antes e depois da leitura no backend.
+    private long versao(long id) {
+        return limpezas + versoes[indiceVersao(id)];
+    }
+
+    private static int indiceVersao(long id) {
+        return (Long.hashCode(id) & Integer.MAX_VALUE) % NUMERO_VERSOES;
+    }
+
+    private static final class Incremental extends PersistenciaComCache implements PersistenciaIncremental {
+
+        private final PersistenciaIncremental incremental;
+
+        Incremental(PersistenciaIncremental persistencia, int capacidade) {
+            super(persistencia, capacidade);
+            this.incremental = persistencia;
+        }
+
+        @Override
+        public void registrarInclusao(Tarefa tarefa) throws PersistenciaException {
+            gravarTarefa(tarefa, () -> incremental.registrarInclusao(tarefa));
+        }
+
+        @Override
+        public void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException {
+            gravarTarefa(tarefa, () -> incremental.registrarAtualizacao(tarefa));
+        }
+
+        @Override
+        public void registrarStatus(long id, StatusTarefa status) throws PersistenciaException {
+            // A instância em cache não recebe o novo status e deixaria de refletir o backend.
+            try {
+                incremental.registrarStatus(id, status);
+            } finally {
+                invalidar(id);
+            }
+        }
+
+        @Override
+        public void registrarExclusao(long id) throws PersistenciaException {
+            excluirTarefa(id);
+        }
+
+        @Override
+        public void registrarInclusaoEmLote(Collection<Tarefa> tarefas) throws PersistenciaException {
+            tarefas.forEach(tarefa -> invalidar(tarefa.getId()));
+            incremental.registrarInclusaoEmLote(tarefas);
+            tarefas.forEach(this::guardar);
+        }
+
+        @Override
+        public void registrarStatusEmLote(Collection<Long> ids, StatusTarefa status) throws PersistenciaException {
+            try {
+                incremental.registrarStatusEmLote(ids, status);
+            } finally {
+                ids.forEach(this::invalidar);
+            }
+        }
+
+        @Override
+        public void registrarExclusaoEmLote(Collection<Long> ids) throws PersistenciaException {
+            try {
+                incremental.registrarExclusaoEmLote(ids);
+            } finally {
+                ids.forEach(this::invalidar);
+            }
+        }
+
+        @Override
+        public boolean precisaCompactar() {
+            return incremental.precisaCompactar();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,284 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.CampoTarefa;
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorador que grava as alterações como deltas num arquivo à parte e só regrava o backend
+ * (a base) quando o gerenciador mescla os deltas com um {@link #salvar} completo. Cada linha do
+ * arquivo de delta é um JSON compacto com o ID e apenas os campos alterados da tarefa, ou a
+ * marca de exclusão; ao carregar, as linhas são reaplicadas sobre a base, em ordem.
+ * <p>
+ * A base é regravada antes de o delta ser apagado. Se o processo cair entre as duas coisas, o
+ * delta é reaplicado sobre a base nova, o que não altera nada desde que o snapshot passado a
+ * {@link #salvar} já contenha tudo o que o delta contém; o gerenciador garante isso gravando o
+ * delta pendente logo antes de mesclar.
+ */
+public class PersistenciaComDelta implements PersistenciaDelta, Closeable {
+
+    public static final int LIMITE_PADRAO_REGISTROS = 10_000;
+
+    private final PersistenciaTarefas base;
+    private final Path caminhoDelta;
+    private final int limiteRegistros;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BufferedWriter escritorDelta;
+    private int registrosNoDelta;
+
+    public PersistenciaComDelta(PersistenciaTarefas base, String nomeArquivoDelta) {
+        this(base, nomeArquivoDelta, LIMITE_PADRAO_REGISTROS);
+    }
+
+    /**
+     * @param limiteRegistros Quantidade de registros no delta a partir da qual a mesclagem é recomendada.
+     */
+    public PersistenciaComDelta(PersistenciaTarefas base, String nomeArquivoDelta, int limiteRegistros) {
+        if (limiteRegistros <= 0) {
+            throw new IllegalArgumentException("Limite de registros deve ser positivo.");
+        }
+        this.base = base;
+        this.caminhoDelta = Paths.get(nomeArquivoDelta);
+        this.limiteRegistros = limiteRegistros;
+    }
+
+    @Override
+    public synchronized void salvarDelta(Collection<Tarefa> alteradas, Collection<Long> excluidas) throws PersistenciaException {
+        if (alteradas.isEmpty() && excluidas.isEmpty()) {
+            return;
+        }
+        try {
+            if (escritorDelta == null) {
+                Path parentDir = caminhoDelta.toAbsolutePath().getParent();
+                if (parentDir != null && !Files.exists(parentDir)) {
+                    Files.createDirectories(parentDir);
+                }
+                escritorDelta = Files.newBufferedWriter(caminhoDelta, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (long id : excluidas) {
+                ObjectNode registro = objectMapper.createObjectNode();
+                registro.put("id", id);
+                registro.put("excluida", true);
+                anexar(registro);
+            }
+            for (Tarefa tarefa : alteradas) {
+                anexar(registroAlteracao(tarefa));
+            }
+            escritorDelta.flush();
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao gravar delta de tarefas: " + caminhoDelta, e);
+        }
+    }
+
+    @Override
+    public synchronized boolean precisaMesclar() {
+        return registrosNoDelta >= limiteRegistros;
+    }
+
+    /**
+     * Grava a lista inteira na base e descarta os deltas, já incluídos nela.
+     */
+    @Override
+    public synchronized void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        base.salvar(tarefas);
+        try {
+            fecharEscritor();
+            Files.deleteIfExists(caminhoDelta);
+            registrosNoDelta = 0;
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao descartar delta de tarefas: " + caminhoDelta, e);
+        }
+    }
+
+    /**
+     * Incorpora à base os deltas ainda não mesclados, para quem lê o arquivo dela diretamente.
+     */
+    public synchronized void mesclar() throws PersistenciaException {
+        if (Files.exists(caminhoDelta)) {
+            salvar(carregar());
+        }
+    }
+
+    @Override
+    public synchronized List<Tarefa> carregar() throws PersistenciaException {
+        Map<Long, Tarefa> tarefas = new LinkedHashMap<>();
+        for (Tarefa tarefa : base.carregar()) {
+            tarefas.put(tarefa.getId(), tarefa);
+        }
+        boolean deltaIntegro = reaplicarDelta(tarefas, null);
+        List<Tarefa> carregadas = new ArrayList<>(tarefas.values());
+        if (!deltaIntegro) {
+            // Mescla já, para que os próximos registros não sejam concatenados ao incompleto.
+            salvar(carregadas);
+        }
+        return carregadas;
+    }
+
+    // Só as linhas do delta com este ID são aplicadas sobre a tarefa lida da base.
+    @Override
+    public synchronized Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        Map<Long, Tarefa> tarefa = new LinkedHashMap<>(2);
+        base.carregarTarefa(id).ifPresent(lida -> tarefa.put(id, lida));
+        reaplicarDelta(tarefa, id);
+        return Optional.ofNullable(tarefa.get(id));
+    }
+
+    @Override
+    public void salvarTarefa(Tarefa tarefa) throws PersistenciaException {
+        Tarefa completa = tarefa.copiar();
+        completa.marcarComoAlterada();
+        salvarDelta(Collections.singletonList(completa), Collections.emptyList());
+    }
+
+    @Override
+    public void excluirTarefa(long id) throws PersistenciaException {
+        salvarDelta(Collections.emptyList(), Collections.singletonList(id));
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            fecharEscritor();
+            if (base instanceof Closeable) {
+                ((Closeable) base).close();
+            }
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao fechar delta de tarefas: " + caminhoDelta, e);
+        }
+    }
+
+    private ObjectNode registroAlteracao(Tarefa tarefa) {
+        ObjectNode registro = objectMapper.createObjectNode();
+        registro.put("id", tarefa.getId());
+        if (tarefa.foiAlterado(CampoTarefa.TITULO)) {
+            registro.put("titulo", tarefa.getTitulo());
+        }
+        if (tarefa.foiAlterado(CampoTarefa.DESCRICAO)) {
+            registro.put("descricao", tarefa.getDescricao());
+        }
+        if (tarefa.foiAlterado(CampoTarefa.VENCIMENTO)) {
+            LocalDate data = tarefa.getDataVencimento();
+            registro.put("dataVencimento", data != null ? data.toString() : null);
+        }
+        if (tarefa.foiAlterado(CampoTarefa.STATUS) && tarefa.getStatus() != null) {
+            registro.put("status", tarefa.getStatus().name());
+        }
+        return registro;
+    }
+
+    // Retorna false se o delta terminava com um registro incompleto.
+    private boolean reaplicarDelta(Map<Long, Tarefa> tarefas, Long somenteId) throws PersistenciaException {
+        if (somenteId == null) {
+            registrosNoDelta = 0;
+        }
+        if (!Files.exists(caminhoDelta)) {
+            return true;
+        }
+        try (BufferedReader leitor = Files.newBufferedReader(caminhoDelta, StandardCharsets.UTF_8)) {
+            String linha = leitor.readLine();
+            while (linha != null) {
+                String proxima = leitor.readLine();
+                if (!linha.isEmpty()) {
+                    try {
+                        JsonNode registro = objectMapper.readTree(linha);
+                        if (somenteId == null || registro.path("id").asLong() == somenteId) {
+                            aplicar(registro, tarefas);
+                        }
+                        if (somenteId == null) {
+                            registrosNoDelta++;
+                        }
+                    } catch (JsonProcessingException e) {
+                        // Uma última linha incompleta é o rastro de uma queda durante a gravação.
+                        if (proxima != null) {
+                            throw new PersistenciaException("Registro inválido no delta de tarefas: " + caminhoDelta + ". O arquivo pode estar corrompido.", e);
+                        }
+                        System.err.println("AVISO: Último registro do delta de tarefas incompleto foi descartado.");
+                        return false;
+                    }
+                }
+                linha = proxima;
+            }
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao ler delta de tarefas: " + caminhoDelta, e);
+        }
+        return true;
+    }
+
+    private void aplicar(JsonNode registro, Map<Long, Tarefa> tarefas) {
+        long id = registro.path("id").asLong();
+        if (registro.path("excluida").asBoolean()) {
+            tarefas.remove(id);
+            return;
+        }
+        try {
+            Tarefa tarefa = tarefas.get(id);
+            if (tarefa == null) {
+                if (!registro.hasNonNull("titulo")) {
+                    throw new PersistenciaException("Delta da tarefa " + id + " sem título, mas a tarefa não está na base: " + caminhoDelta);
+                }
+                tarefa = new Tarefa(id, registro.get("titulo").asText(), null, null, StatusTarefa.PENDENTE);
+                tarefas.put(id, tarefa);
+            }
+            if (registro.has("titulo")) {
+                tarefa.setTitulo(registro.get("titulo").asText());
+            }
+            if (registro.has("descricao")) {
+                tarefa.setDescricao(texto(registro.get("descricao")));
+            }
+            if (registro.has("dataVencimento")) {
+                String data = texto(registro.get("dataVencimento"));
+                tarefa.setDataVencimento(data != null ? LocalDate.parse(data) : null);
+            }
+            if (registro.has("status")) {
+                if (StatusTarefa.valueOf(registro.get("status").asText()) == StatusTarefa.CONCLUIDA) {
+                    tarefa.marcarComoConcluida();
+                } else {
+                    tarefa.marcarComoPendente();
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new PersistenciaException("Registro inválido no delta da tarefa " + id + ": " + caminhoDelta + ". O arquivo pode estar corrompido.", e);
+        }
+    }
+
+    private static String texto(JsonNode valor) {
+        return valor.isNull() ? null : valor.asText();
+    }
+
+    private void anexar(ObjectNode registro) throws IOException {
+        escritorDelta.write(objectMapper.writeValueAsString(registro));
+        escritorDelta.newLine();
+        registrosNoDelta++;
+    }
+
+    private void fecharEscritor() throws IOException {
+        if (escritorDelta != null) {
+            escritorDelta.close();
+            escritorDelta = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.Collection;
+
+/**
+ * Persistência que grava só o que mudou desde a última gravação, em vez da lista inteira. Os
+ * deltas se acumulam até serem mesclados à base por um {@link #salvar} completo.
+ */
+public interface PersistenciaDelta extends PersistenciaTarefas {
+    /**
+     * Grava as tarefas novas ou alteradas e as exclusões desde a última gravação.
+     * @param alteradas Tarefas com os campos alterados marcados ({@link Tarefa#camposAlterados()});
+     *                  tarefas novas devem ter todos os campos marcados.
+     * @param excluidas IDs das tarefas excluídas.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    void salvarDelta(Collection<Tarefa> alteradas, Collection<Long> excluidas) throws PersistenciaException;
+
+    /**
+     * Indica se os deltas acumulados justificam mesclá-los à base com um {@link #salvar} completo.
+     * @return true se a mesclagem é recomendada.
+     */
+    boolean precisaMesclar();
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.Optional;
+
+public interface PersistenciaEmBlocos extends PersistenciaTarefas {
+    /**
+     * Abre o arquivo para leitura por blocos. Se não houver dados, o leitor não tem blocos.
+     * @return Leitor que deve ser fechado ao fim da carga.
+     * @throws PersistenciaException Se o cabeçalho ou o índice não puderem ser lidos.
+     */
+    LeitorBlocos abrirLeitorBlocos() throws PersistenciaException;
+
+    // Lê só os blocos cuja faixa de IDs contém o procurado, do mais recente para o mais antigo.
+    @Override
+    default Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        try (LeitorBlocos leitor = abrirLeitorBlocos()) {
+            for (int bloco = leitor.quantidadeBlocos() - 1; bloco >= 0; bloco--) {
+                if (leitor.menorIdDoBloco(bloco) <= id && id <= leitor.maiorIdDoBloco(bloco)) {
+                    for (Tarefa tarefa : leitor.lerBloco(bloco)) {
+                        if (tarefa.getId() == id) {
+                            return Optional.of(tarefa);
+                        }
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
\ No newline at end of file
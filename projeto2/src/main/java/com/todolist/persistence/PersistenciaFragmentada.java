@@ -0,0 +1,275 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.util.MapaLongo;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistência dividida em vários arquivos JSON (fragmentos) dentro de um diretório, cada um com uma
+ * faixa fixa de IDs. Só os fragmentos alterados desde a última gravação são regravados, e os
+ * fragmentos são lidos e gravados em paralelo.
+ * <p>
+ * Como {@link PersistenciaIncremental}, cada operação regrava apenas o fragmento da tarefa afetada.
+ * Em {@link #salvar(List)}, um fragmento só é regravado se a assinatura do seu conteúdo mudou.
+ */
+public class PersistenciaFragmentada implements PersistenciaIncremental {
+
+    public static final int TAREFAS_POR_FRAGMENTO_PADRAO = 10_000;
+
+    private static final Pattern NOME_FRAGMENTO = Pattern.compile("tarefas-(\\d+)\\.json");
+
+    private final Path diretorio;
+    private final int tarefasPorFragmento;
+    private final NavigableMap<Long, Fragmento> fragmentos = new TreeMap<>();
+
+    public PersistenciaFragmentada(String diretorio) {
+        this(diretorio, TAREFAS_POR_FRAGMENTO_PADRAO);
+    }
+
+    public PersistenciaFragmentada(String diretorio, int tarefasPorFragmento) {
+        if (tarefasPorFragmento <= 0) {
+            throw new IllegalArgumentException("Tarefas por fragmento deve ser positivo.");
+        }
+        this.diretorio = Paths.get(diretorio);
+        this.tarefasPorFragmento = tarefasPorFragmento;
+    }
+
+    @Override
+    public synchronized void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        // Fragmentos no disco que esta instância ainda não conhece também precisam ser substituídos
+        // ou apagados, senão tarefas excluídas voltariam na próxima carga.
+        for (long numero : fragmentosNoDisco()) {
+            fragmentos.computeIfAbsent(numero, this::novoFragmento);
+        }
+        NavigableMap<Long, MapaLongo<Tarefa>> novos = new TreeMap<>();
+        for (Tarefa tarefa : tarefas) {
+            novos.computeIfAbsent(numeroDoFragmento(tarefa.getId()), n -> new MapaLongo<>()).put(tarefa.getId(), tarefa);
+        }
+        List<Fragmento> alterados = new ArrayList<>();
+        for (Map.Entry<Long, MapaLongo<Tarefa>> entrada : novos.entrySet()) {
+            Fragmento fragmento = fragmentos.computeIfAbsent(entrada.getKey(), this::novoFragmento);
+            fragmento.tarefas = entrada.getValue();
+            if (fragmento.assinaturaGravada != assinatura(fragmento.tarefas) || !fragmento.gravado) {
+                alterados.add(fragmento);
+            }
+        }
+        alterados.parallelStream().forEach(Fragmento::gravar);
+        List<Long> vazios = new ArrayList<>();
+        for (Map.Entry<Long, Fragmento> entrada : fragmentos.entrySet()) {
+            if (!novos.containsKey(entrada.getKey())) {
+                entrada.getValue().excluirArquivo();
+                vazios.add(entrada.getKey());
+            }
+        }
+        vazios.forEach(fragmentos::remove);
+    }
+
+    @Override
+    public synchronized List<Tarefa> carregar() throws PersistenciaException {
+        fragmentos.clear();
+        for (long numero : fragmentosNoDisco()) {
+            fragmentos.put(numero, novoFragmento(numero));
+        }
+        fragmentos.values().parallelStream().forEach(Fragmento::ler);
+        List<Tarefa> tarefas = new ArrayList<>();
+        boolean foraDoFragmento = false;
+        for (Map.Entry<Long, Fragmento> entrada : fragmentos.entrySet()) {
+            for (Tarefa tarefa : entrada.getValue().tarefas) {
+                tarefas.add(tarefa);
+                foraDoFragmento |= numeroDoFragmento(tarefa.getId()) != entrada.getKey();
+            }
+        }
+        // Arquivos gravados com outro tamanho de fragmento são redistribuídos pela faixa atual.
+        if (foraDoFragmento) {
+            fragmentos.values().forEach(fragmento -> fragmento.gravado = false);
+            salvar(tarefas);
+        }
+        return tarefas;
+    }
+
+    @Override
+    public synchronized Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        Fragmento fragmento = fragmentoDoId(id);
+        return fragmento != null ? Optional.ofNullable(fragmento.tarefas.get(id)) : Optional.empty();
+    }
+
+    @Override
+    public synchronized void registrarInclusao(Tarefa tarefa) throws PersistenciaException {
+        Fragmento fragmento = fragmentoDoId(tarefa.getId());
+        if (fragmento == null) {
+            fragmento = novoFragmento(numeroDoFragmento(tarefa.getId()));
+            fragmentos.put(numeroDoFragmento(tarefa.getId()), fragmento);
+        }
+        fragmento.tarefas.put(tarefa.getId(), tarefa);
+        fragmento.gravar();
+    }
+
+    @Override
+    public void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException {
+        registrarInclusao(tarefa);
+    }
+
+    @Override
+    public synchronized void registrarStatus(long id, StatusTarefa status) throws PersistenciaException {
+        Fragmento fragmento = fragmentoDoId(id);
+        Tarefa gravada = fragmento != null ? fragmento.tarefas.get(id) : null;
+        if (gravada == null) {
+            return;
+        }
+        // A tarefa guardada pode ser uma cópia congelada recebida em salvar.
+        Tarefa tarefa = gravada.copiar();
+        if (status == StatusTarefa.CONCLUIDA) {
+            tarefa.marcarComoConcluida();
+        } else {
+            tarefa.marcarComoPendente();
+        }
+        fragmento.tarefas.put(id, tarefa);
+        fragmento.gravar();
+    }
+
+    @Override
+    public synchronized void registrarExclusao(long id) throws PersistenciaException {
+        long numero = numeroDoFragmento(id);
+        Fragmento fragmento = fragmentoDoId(id);
+        if (fragmento == null || fragmento.tarefas.remove(id) == null) {
+            return;
+        }
+        if (fragmento.tarefas.isEmpty()) {
+            fragmento.excluirArquivo();
+            fragmentos.remove(numero);
+        } else {
+            fragmento.gravar();
+        }
+    }
+
+    // Cada operação já é gravada no seu fragmento; não há registro a compactar.
+    @Override
+    public boolean precisaCompactar() {
+        return false;
+    }
+
+    private List<Long> fragmentosNoDisco() throws PersistenciaException {
+        List<Long> numeros = new ArrayList<>();
+        if (!Files.isDirectory(diretorio)) {
+            return numeros;
+        }
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "tarefas-*.json")) {
+            for (Path arquivo : arquivos) {
+                Matcher nome = NOME_FRAGMENTO.matcher(arquivo.getFileName().toString());
+                if (nome.matches()) {
+                    numeros.add(Long.parseLong(nome.group(1)));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new PersistenciaException("Erro ao listar fragmentos de tarefas em: " + diretorio, e);
+        }
+        return numeros;
+    }
+
+    private long numeroDoFragmento(long id) {
+        return Math.floorDiv(id, tarefasPorFragmento);
+    }
+
+    // Sem um carregar() anterior, o fragmento é lido do disco na primeira vez em que é usado, para
+    // que uma gravação não substitua o arquivo apenas com a tarefa alterada.
+    private Fragmento fragmentoDoId(long id) {
+        long numero = numeroDoFragmento(id);
+        Fragmento fragmento = fragmentos.get(numero);
+        if (fragmento == null) {
+            Fragmento doDisco = novoFragmento(numero);
+            if (Files.exists(doDisco.caminho)) {
+                doDisco.ler();
+                fragmentos.put(numero, doDisco);
+                fragmento = doDisco;
+            }
+        }
+        return fragmento;
+    }
+
+    private Fragmento novoFragmento(long numero) {
+        return new Fragmento(diretorio.resolve(String.format("tarefas-%08d.json", numero)));
+    }
+
+    // Assinatura de 64 bits (FNV-1a) dos campos persistidos, na ordem das tarefas.
+    private static long assinatura(MapaLongo<Tarefa> tarefas) {
+        long hash = 0xcbf29ce484222325L;
+        for (Tarefa tarefa : tarefas) {
+            hash = misturar(hash, tarefa.getId());
+            hash = misturar(hash, tarefa.getTitulo());
+            hash = misturar(hash, tarefa.getDescricao());
+            LocalDate data = tarefa.getDataVencimento();
+            hash = misturar(hash, data != null ? data.toEpochDay() : Long.MIN_VALUE);
+            hash = misturar(hash, tarefa.getStatus() != null ? tarefa.getStatus().ordinal() : -1);
+        }
+        return hash;
+    }
+
+    private static long misturar(long hash, long valor) {
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (valor & 0xFF)) * 0x100000001b3L;
+            valor >>>= 8;
+        }
+        return hash;
+    }
+
+    private static long misturar(long hash, String texto) {
+        if (texto == null) {
+            return misturar(hash, -1L);
+        }
+        hash = misturar(hash, texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            hash = (hash ^ texto.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Fragmento {
+        private final PersistenciaJson arquivo;
+        private final Path caminho;
+        private MapaLongo<Tarefa> tarefas = new MapaLongo<>();
+        private long assinaturaGravada;
+        private boolean gravado;
+
+        Fragmento(Path caminho) {
+            this.caminho = caminho;
+            this.arquivo = new PersistenciaJson(caminho.toString(), false);
+        }
+
+        void ler() {
+            MapaLongo<Tarefa> lidas = new MapaLongo<>();
+            arquivo.carregar(tarefa -> lidas.put(tarefa.getId(), tarefa));
+            tarefas = lidas;
+            assinaturaGravada = assinatura(lidas);
+            gravado = true;
+        }
+
+        void gravar() {
+            arquivo.salvar(tarefas.iterator());
+            assinaturaGravada = assinatura(tarefas);
+            gravado = true;
+        }
+
+        void excluirArquivo() {
+            try {
+                Files.deleteIfExists(caminho);
+            } catch (IOException e) {
+                throw new PersistenciaException("Erro ao excluir fragmento de tarefas: " + caminho, e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.Collection;
+
+public interface PersistenciaIncremental extends PersistenciaTarefas {
+    /**
+     * Registra a inclusão de uma nova tarefa.
+     * @param tarefa Tarefa incluída, já com ID atribuído.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    void registrarInclusao(Tarefa tarefa) throws PersistenciaException;
+
+    /**
+     * Registra a alteração de título, descrição ou data de vencimento de uma tarefa.
+     * @param tarefa Tarefa com os novos valores.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException;
+
+    /**
+     * Registra a mudança de status de uma tarefa.
+     * @param id ID da tarefa.
+     * @param status Novo status.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    void registrarStatus(long id, StatusTarefa status) throws PersistenciaException;
+
+    /**
+     * Registra a exclusão de uma tarefa.
+     * @param id ID da tarefa excluída.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    void registrarExclusao(long id) throws PersistenciaException;
+
+    /**
+     * Registra a inclusão de várias tarefas. A implementação padrão registra uma a uma;
+     * backends que agrupam gravações devem sobrescrever.
+     * @param tarefas Tarefas incluídas, já com ID atribuído.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default void registrarInclusaoEmLote(Collection<Tarefa> tarefas) throws PersistenciaException {
+        for (Tarefa tarefa : tarefas) {
+            registrarInclusao(tarefa);
+        }
+    }
+
+    /**
+     * Registra a mudança de status de várias tarefas para o mesmo valor.
+     * @param ids IDs das tarefas.
+     * @param status Novo status.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default void registrarStatusEmLote(Collection<Long> ids, StatusTarefa status) throws PersistenciaException {
+        for (long id : ids) {
+            registrarStatus(id, status);
+        }
+    }
+
+    /**
+     * Registra a exclusão de várias tarefas.
+     * @param ids IDs das tarefas excluídas.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default void registrarExclusaoEmLote(Collection<Long> ids) throws PersistenciaException {
+        for (long id : ids) {
+            registrarExclusao(id);
+        }
+    }
+
+    /**
+     * Indica se os registros acumulados justificam gravar um snapshot completo via {@link #salvar}.
+     * @return true se uma compactação é recomendada.
+     */
+    boolean precisaCompactar();
+
+    // Os registros já alteram uma tarefa por vez; atualizar uma tarefa inexistente a inclui.
+    @Override
+    default void salvarTarefa(Tarefa tarefa) throws PersistenciaException {
+        registrarAtualizacao(tarefa);
+    }
+
+    @Override
+    default void excluirTarefa(long id) throws PersistenciaException {
+        registrarExclusao(id);
+    }
+}
\ No newline at end of file
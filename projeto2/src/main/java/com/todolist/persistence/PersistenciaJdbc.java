@@ -0,0 +1,309 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistência em um banco SQL embutido acessado por JDBC, como H2 ({@code jdbc:h2:file:./tarefas})
+ * ou SQLite ({@code jdbc:sqlite:tarefas.db}). O driver precisa estar no classpath.
+ * <p>
+ * Cada operação do gerenciador vira um comando sobre uma linha da tabela {@code tarefas}, em sua
+ * própria transação; as operações em lote usam batch de JDBC. A conexão e os comandos preparados
+ * são reutilizados até {@link #close()}.
+ */
+public class PersistenciaJdbc implements PersistenciaIncremental, Closeable {
+
+    static final int TAMANHO_LOTE = 1_000;
+
+    // A data é guardada como dia epoch, como nos formatos binários: compara e indexa como número
+    // em qualquer banco, sem depender do suporte do driver a LocalDate.
+    private static final String[] ESQUEMA = {
+        "CREATE TABLE IF NOT EXISTS tarefas ("
+                + "id BIGINT NOT NULL PRIMARY KEY, "
+                + "titulo VARCHAR NOT NULL, "
+                + "descricao VARCHAR, "
+                + "data_vencimento BIGINT, "
+                + "status VARCHAR(16) NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS idx_tarefas_status ON tarefas (status)",
+        "CREATE INDEX IF NOT EXISTS idx_tarefas_vencimento ON tarefas (data_vencimento)"
+    };
+    private static final String COLUNAS = "id, titulo, descricao, data_vencimento, status";
+    private static final String SQL_INSERIR = "INSERT INTO tarefas (" + COLUNAS + ") VALUES (?, ?, ?, ?, ?)";
+    private static final String SQL_ATUALIZAR = "UPDATE tarefas SET titulo = ?, descricao = ?, data_vencimento = ?, status = ? WHERE id = ?";
+    private static final String SQL_STATUS = "UPDATE tarefas SET status = ? WHERE id = ?";
+    private static final String SQL_EXCLUIR = "DELETE FROM tarefas WHERE id = ?";
+    private static final String SQL_BUSCAR = "SELECT " + COLUNAS + " FROM tarefas WHERE id = ?";
+    private static final String SQL_LISTAR = "SELECT " + COLUNAS + " FROM tarefas ORDER BY id";
+
+    private final String url;
+    private final String usuario;
+    private final String senha;
+
+    private Connection conexao;
+    private PreparedStatement inserir;
+    private PreparedStatement atualizar;
+    private PreparedStatement alterarStatus;
+    private PreparedStatement excluir;
+    private PreparedStatement buscar;
+
+    public PersistenciaJdbc(String url) {
+        this(url, null, null);
+    }
+
+    public PersistenciaJdbc(String url, String usuario, String senha) {
+        this.url = url;
+        this.usuario = usuario;
+        this.senha = senha;
+    }
+
+    @Override
+    public synchronized void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        emTransacao("salvar tarefas", () -> {
+            try (Statement limpar = conexao.createStatement()) {
+                limpar.executeUpdate("DELETE FROM tarefas");
+            }
+            inserirEmLote(tarefas);
+        });
+    }
+
+    @Override
+    public synchronized List<Tarefa> carregar() throws PersistenciaException {
+        List<Tarefa> tarefas = new ArrayList<>();
+        emTransacao("carregar tarefas", () -> {
+            try (Statement listar = conexao.createStatement()) {
+                listar.setFetchSize(TAMANHO_LOTE);
+                try (ResultSet linhas = listar.executeQuery(SQL_LISTAR)) {
+                    while (linhas.next()) {
+                        tarefas.add(lerTarefa(linhas));
+                    }
+                }
+            }
+        });
+        return tarefas;
+    }
+
+    @Override
+    public synchronized Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        List<Tarefa> encontrada = new ArrayList<>(1);
+        emTransacao("carregar tarefa " + id, () -> {
+            buscar.setLong(1, id);
+            try (ResultSet linha = buscar.executeQuery()) {
+                if (linha.next()) {
+                    encontrada.add(lerTarefa(linha));
+                }
+            }
+        });
+        return encontrada.isEmpty() ? Optional.empty() : Optional.of(encontrada.get(0));
+    }
+
+    @Override
+    public synchronized void registrarInclusao(Tarefa tarefa) throws PersistenciaException {
+        emTransacao("incluir tarefa " + tarefa.getId(), () -> {
+            preencherInclusao(tarefa);
+            inserir.executeUpdate();
+        });
+    }
+
+    // Uma atualização de tarefa inexistente a inclui, como nos demais backends incrementais.
+    @Override
+    public synchronized void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException {
+        emTransacao("atualizar tarefa " + tarefa.getId(), () -> {
+            atualizar.setString(1, tarefa.getTitulo());
+            atualizar.setString(2, tarefa.getDescricao());
+            definirData(atualizar, 3, tarefa.getDataVencimento());
+            atualizar.setString(4, nomeStatus(tarefa.getStatus()));
+            atualizar.setLong(5, tarefa.getId());
+            if (atualizar.executeUpdate() == 0) {
+                preencherInclusao(tarefa);
+                inserir.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public synchronized void registrarStatus(long id, StatusTarefa status) throws PersistenciaException {
+        registrarStatusEmLote(List.of(id), status);
+    }
+
+    @Override
+    public synchronized void registrarExclusao(long id) throws PersistenciaException {
+        registrarExclusaoEmLote(List.of(id));
+    }
+
+    @Override
+    public synchronized void registrarInclusaoEmLote(Collection<Tarefa> tarefas) throws PersistenciaException {
+        emTransacao("incluir " + tarefas.size() + " tarefas", () -> inserirEmLote(tarefas));
+    }
+
+    @Override
+    public synchronized void registrarStatusEmLote(Collection<Long> ids, StatusTarefa status) throws PersistenciaException {
+        emTransacao("alterar status de " + ids.size() + " tarefas", () -> {
+            alterarStatus.setString(1, nomeStatus(status));
+            executarPorId(alterarStatus, 2, ids);
+        });
+    }
+
+    @Override
+    public synchronized void registrarExclusaoEmLote(Collection<Long> ids) throws PersistenciaException {
+        emTransacao("excluir " + ids.size() + " tarefas", () -> executarPorId(excluir, 1, ids));
+    }
+
+    // Cada operação já altera só as linhas afetadas; a compactação fica a cargo do banco.
+    @Override
+    public boolean precisaCompactar() {
+        return false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (conexao == null) {
+            return;
+        }
+        try {
+            conexao.close();
+        } catch (SQLException e) {
+            System.err.println("AVISO: Erro ao fechar conexão com o banco de tarefas: " + e.getMessage());
+        } finally {
+            conexao = null;
+        }
+    }
+
+    private void inserirEmLote(Collection<Tarefa> tarefas) throws SQLException {
+        int pendentes = 0;
+        for (Tarefa tarefa : tarefas) {
+            preencherInclusao(tarefa);
+            inserir.addBatch();
+            if (++pendentes == TAMANHO_LOTE) {
+                inserir.executeBatch();
+                pendentes = 0;
+            }
+        }
+        if (pendentes > 0) {
+            inserir.executeBatch();
+        }
+    }
+
+    // Um único comando de IDs variáveis, enviado em lotes; os parâmetros anteriores ao ID se mantêm.
+    private static void executarPorId(PreparedStatement comando, int parametroId, Collection<Long> ids) throws SQLException {
+        if (ids.size() == 1) {
+            comando.setLong(parametroId, ids.iterator().next());
+            comando.executeUpdate();
+            return;
+        }
+        int pendentes = 0;
+        for (long id : ids) {
+            comando.setLong(parametroId, id);
+            comando.addBatch();
+            if (++pendentes == TAMANHO_LOTE) {
+                comando.executeBatch();
+                pendentes = 0;
+            }
+        }
+        if (pendentes > 0) {
+            comando.executeBatch();
+        }
+    }
+
+    private void emTransacao(String descricao, OperacaoSql operacao) throws PersistenciaException {
+        try {
+            abrirSeNecessario();
+        } catch (SQLException e) {
+            close();
+            throw new PersistenciaException("Erro ao abrir o banco de tarefas: " + urlSemParametros(), e);
+        }
+        try {
+            operacao.executar();
+            conexao.commit();
+        } catch (SQLException | IllegalArgumentException | DateTimeException e) {
+            try {
+                conexao.rollback();
+                for (PreparedStatement comando : new PreparedStatement[] {inserir, alterarStatus, excluir}) {
+                    comando.clearBatch();
+                }
+            } catch (SQLException ignorada) {
+                e.addSuppressed(ignorada);
+                // Conexão em estado incerto: a próxima operação abre outra.
+                close();
+            }
+            throw new PersistenciaException("Erro ao " + descricao + " no banco: " + urlSemParametros(), e);
+        }
+    }
+
+    private void abrirSeNecessario() throws SQLException {
+        if (conexao != null && !conexao.isClosed()) {
+            return;
+        }
+        conexao = usuario != null ? DriverManager.getConnection(url, usuario, senha) : DriverManager.getConnection(url);
+        conexao.setAutoCommit(false);
+        try (Statement ddl = conexao.createStatement()) {
+            for (String comando : ESQUEMA) {
+                ddl.execute(comando);
+            }
+        }
+        conexao.commit();
+        inserir = conexao.prepareStatement(SQL_INSERIR);
+        atualizar = conexao.prepareStatement(SQL_ATUALIZAR);
+        alterarStatus = conexao.prepareStatement(SQL_STATUS);
+        excluir = conexao.prepareStatement(SQL_EXCLUIR);
+        buscar = conexao.prepareStatement(SQL_BUSCAR);
+    }
+
+    private void preencherInclusao(Tarefa tarefa) throws SQLException {
+        inserir.setLong(1, tarefa.getId());
+        inserir.setString(2, tarefa.getTitulo());
+        inserir.setString(3, tarefa.getDescricao());
+        definirData(inserir, 4, tarefa.getDataVencimento());
+        inserir.setString(5, nomeStatus(tarefa.getStatus()));
+    }
+
+    private static void definirData(PreparedStatement comando, int parametro, LocalDate data) throws SQLException {
+        if (data == null) {
+            comando.setNull(parametro, Types.BIGINT);
+        } else {
+            comando.setLong(parametro, data.toEpochDay());
+        }
+    }
+
+    private static String nomeStatus(StatusTarefa status) {
+        return (status != null ? status : StatusTarefa.PENDENTE).name();
+    }
+
+    private static Tarefa lerTarefa(ResultSet linha) throws SQLException {
+        long dia = linha.getLong(4);
+        LocalDate data = linha.wasNull() ? null : LocalDate.ofEpochDay(dia);
+        return new Tarefa(linha.getLong(1), linha.getString(2), linha.getString(3), data,
+                StatusTarefa.valueOf(linha.getString(5)));
+    }
+
+    // Parâmetros da URL podem conter credenciais e ficam fora das mensagens de erro.
+    private String urlSemParametros() {
+        int fim = url.length();
+        for (char separador : new char[] {';', '?'}) {
+            int posicao = url.indexOf(separador);
+            if (posicao >= 0 && posicao < fim) {
+                fim = posicao;
+            }
+        }
+        return url.substring(0, fim);
+    }
+
+    @FunctionalInterface
+    private interface OperacaoSql {
+        void executar() throws SQLException;
+    }
+}
\ No newline at end of file
@@ -1,54 +1,164 @@
 package main.java.com.todolist.persistence;
 
 import main.java.com.todolist.domain.Tarefa;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class PersistenciaJson implements PersistenciaTarefas {
 
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
     private final Path caminhoArquivo;
     private final ObjectMapper objectMapper;
+    private final ObjectReader leitorTarefa;
+    private final ObjectWriter escritorTarefa;
+    private final boolean formatado;
+    private final Durabilidade durabilidade;
 
     public PersistenciaJson(String nomeArquivo) {
+        this(nomeArquivo, true);
+    }
+
+    /**
+     * @param formatado Se false, grava o JSON sem indentação, o que reduz o tamanho do arquivo
+     *                  e o custo de gravação em listas grandes.
+     */
+    public PersistenciaJson(String nomeArquivo, boolean formatado) {
+        this(nomeArquivo, formatado, Durabilidade.SEM_FSYNC);
+    }
+
+    public PersistenciaJson(String nomeArquivo, boolean formatado, Durabilidade durabilidade) {
         this.caminhoArquivo = Paths.get(nomeArquivo);
+        this.formatado = formatado;
+        this.durabilidade = durabilidade;
         this.objectMapper = new ObjectMapper();
-        this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         this.objectMapper.registerModule(new JavaTimeModule());
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // A indentação fica a cargo do gerador e o flush só acontece no fim do arquivo.
+        this.objectMapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.leitorTarefa = objectMapper.readerFor(Tarefa.class);
+        this.escritorTarefa = objectMapper.writerFor(Tarefa.class);
     }
 
     @Override
     public void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        salvar(tarefas.iterator());
+    }
+
+    /**
+     * Grava as tarefas uma a uma à medida que o iterador as produz, sem montar a lista em memória.
+     * @param tarefas Iterador das tarefas a serem salvas.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    public void salvar(Iterator<Tarefa> tarefas) throws PersistenciaException {
+        gravarArquivo(tarefas, durabilidade == Durabilidade.FSYNC_POR_GRAVACAO);
+    }
+
+    private void gravarArquivo(Iterator<Tarefa> tarefas, boolean forcarDisco) throws PersistenciaException {
+        Path temporario = caminhoArquivo.resolveSibling(caminhoArquivo.getFileName() + ".tmp");
         try {
-            Path parentDir = caminhoArquivo.getParent();
+            Path parentDir = caminhoArquivo.toAbsolutePath().getParent();
             if (parentDir != null && !Files.exists(parentDir)) {
                 Files.createDirectories(parentDir);
             }
-            objectMapper.writeValue(caminhoArquivo.toFile(), tarefas);
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream saida = new BufferedOutputStream(Channels.newOutputStream(canal), TAMANHO_BUFFER);
+                try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida, JsonEncoding.UTF8)) {
+                    // O canal precisa continuar aberto para o force depois que o gerador fechar.
+                    gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    if (formatado) {
+                        gerador.useDefaultPrettyPrinter();
+                    }
+                    gerador.writeStartArray();
+                    while (tarefas.hasNext()) {
+                        escritorTarefa.writeValue(gerador, tarefas.next());
+                    }
+                    gerador.writeEndArray();
+                }
+                saida.flush();
+                if (forcarDisco) {
+                    canal.force(true);
+                }
+            }
+            Files.move(temporario, caminhoArquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (forcarDisco && parentDir != null) {
+                sincronizarDiretorio(parentDir);
+            }
         } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temporario);
+            } catch (IOException ignorada) {
+                e.addSuppressed(ignorada);
+            }
             throw new PersistenciaException("Erro ao salvar tarefas no arquivo JSON: " + caminhoArquivo, e);
         }
     }
 
+    // Torna o rename durável. Alguns sistemas (Windows) não permitem abrir diretórios; lá o passo é ignorado.
+    private static void sincronizarDiretorio(Path diretorio) {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Sem suporte a fsync de diretório.
+        }
+    }
+
     @Override
     public List<Tarefa> carregar() throws PersistenciaException {
+        List<Tarefa> tarefas = new ArrayList<>();
+        carregar(tarefas::add);
+        return tarefas;
+    }
+
+    /**
+     * Lê as tarefas uma a uma e entrega cada uma ao consumidor assim que é lida,
+     * mantendo em memória apenas a tarefa corrente.
+     * @param consumidor Recebe cada tarefa lida, na ordem do arquivo.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    public void carregar(Consumer<Tarefa> consumidor) throws PersistenciaException {
         File arquivo = caminhoArquivo.toFile();
         if (!arquivo.exists() || arquivo.length() == 0) {
-            return new ArrayList<>();
+            return;
         }
-        try {
-            List<Tarefa> tarefas = objectMapper.readValue(arquivo, new TypeReference<List<Tarefa>>() {});
-            return tarefas != null ? tarefas : new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(arquivo)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new PersistenciaException("Erro ao carregar tarefas do arquivo JSON: " + caminhoArquivo + ". Era esperada uma lista de tarefas.");
+            }
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                consumidor.accept(leitorTarefa.readValue(parser));
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new PersistenciaException("Erro ao carregar tarefas do arquivo JSON: " + caminhoArquivo + ". O arquivo pode estar corrompido.");
+            }
         } catch (IOException e) {
             throw new PersistenciaException("Erro ao carregar tarefas do arquivo JSON: " + caminhoArquivo + ". O arquivo pode estar corrompido.", e);
         }
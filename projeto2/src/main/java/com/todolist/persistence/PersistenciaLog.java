@@ -0,0 +1,235 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Persistência por log de operações (append-only) com snapshot periódico.
+// Cada mutação grava uma linha JSON compacta no log; salvar() grava o snapshot e trunca o log.
+public class PersistenciaLog implements PersistenciaIncremental, Closeable {
+
+    public static final int LIMITE_PADRAO_REGISTROS = 10_000;
+
+    private static final String OP_INCLUIR = "I";
+    private static final String OP_ATUALIZAR = "A";
+    private static final String OP_STATUS = "S";
+    private static final String OP_EXCLUIR = "E";
+
+    private final Path caminhoSnapshot;
+    private final Path caminhoLog;
+    private final int limiteRegistros;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter escritorLog;
+    private int registrosNoLog;
+
+    public PersistenciaLog(String nomeArquivo) {
+        this(nomeArquivo, LIMITE_PADRAO_REGISTROS);
+    }
+
+    public PersistenciaLog(String nomeArquivo, int limiteRegistros) {
+        if (limiteRegistros <= 0) {
+            throw new IllegalArgumentException("Limite de registros deve ser positivo.");
+        }
+        this.caminhoSnapshot = Paths.get(nomeArquivo);
+        this.caminhoLog = Paths.get(nomeArquivo + ".log");
+        this.limiteRegistros = limiteRegistros;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    public synchronized void registrarInclusao(Tarefa tarefa) throws PersistenciaException {
+        ObjectNode registro = novoRegistro(OP_INCLUIR);
+        registro.set("t", objectMapper.valueToTree(tarefa));
+        anexar(registro);
+    }
+
+    @Override
+    public synchronized void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException {
+        ObjectNode registro = novoRegistro(OP_ATUALIZAR);
+        registro.set("t", objectMapper.valueToTree(tarefa));
+        anexar(registro);
+    }
+
+    @Override
+    public synchronized void registrarStatus(long id, StatusTarefa status) throws PersistenciaException {
+        ObjectNode registro = novoRegistro(OP_STATUS);
+        registro.put("id", id);
+        registro.put("s", status.name());
+        anexar(registro);
+    }
+
+    @Override
+    public synchronized void registrarExclusao(long id) throws PersistenciaException {
+        ObjectNode registro = novoRegistro(OP_EXCLUIR);
+        registro.put("id", id);
+        anexar(registro);
+    }
+
+    @Override
+    public synchronized boolean precisaCompactar() {
+        return registrosNoLog >= limiteRegistros;
+    }
+
+    @Override
+    public synchronized void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        try {
+            Path parentDir = caminhoSnapshot.toAbsolutePath().getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            Path temporario = caminhoSnapshot.resolveSibling(caminhoSnapshot.getFileName() + ".tmp");
+            objectMapper.writeValue(temporario.toFile(), tarefas);
+            Files.move(temporario, caminhoSnapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // Só trunca o log depois que o snapshot está no lugar; se houver falha antes
+            // disso, o replay reaplica as operações (todas idempotentes) sobre o snapshot.
+            fecharEscritor();
+            Files.deleteIfExists(caminhoLog);
+            registrosNoLog = 0;
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao gravar snapshot de tarefas: " + caminhoSnapshot, e);
+        }
+    }
+
+    @Override
+    public synchronized List<Tarefa> carregar() throws PersistenciaException {
+        Map<Long, Tarefa> tarefas = new LinkedHashMap<>();
+        if (Files.exists(caminhoSnapshot) && caminhoSnapshot.toFile().length() > 0) {
+            try {
+                for (Tarefa t : objectMapper.readValue(caminhoSnapshot.toFile(), Tarefa[].class)) {
+                    tarefas.put(t.getId(), t);
+                }
+            } catch (IOException e) {
+                throw new PersistenciaException("Erro ao carregar snapshot de tarefas: " + caminhoSnapshot + ". O arquivo pode estar corrompido.", e);
+            }
+        }
+        boolean logIntegro = reaplicarLog(tarefas);
+        List<Tarefa> carregadas = new ArrayList<>(tarefas.values());
+        if (!logIntegro) {
+            // Descarta o registro incompleto consolidando o estado num snapshot novo,
+            // para que os próximos appends não sejam concatenados a ele.
+            salvar(carregadas);
+        }
+        return carregadas;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            fecharEscritor();
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao fechar log de tarefas: " + caminhoLog, e);
+        }
+    }
+
+    // Retorna false se o log terminava com um registro incompleto.
+    private boolean reaplicarLog(Map<Long, Tarefa> tarefas) throws PersistenciaException {
+        registrosNoLog = 0;
+        if (!Files.exists(caminhoLog)) {
+            return true;
+        }
+        try (BufferedReader leitor = Files.newBufferedReader(caminhoLog, StandardCharsets.UTF_8)) {
+            String linha = leitor.readLine();
+            while (linha != null) {
+                String proxima = leitor.readLine();
+                if (!linha.isEmpty()) {
+                    try {
+                        aplicar(objectMapper.readTree(linha), tarefas);
+                        registrosNoLog++;
+                    } catch (JsonProcessingException e) {
+                        // Uma última linha incompleta é o rastro de uma queda durante o append.
+                        if (proxima != null) {
+                            throw new PersistenciaException("Registro inválido no log de tarefas: " + caminhoLog + ". O arquivo pode estar corrompido.", e);
+                        }
+                        System.err.println("AVISO: Último registro do log de tarefas incompleto foi descartado.");
+                        return false;
+                    }
+                }
+                linha = proxima;
+            }
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao ler log de tarefas: " + caminhoLog, e);
+        }
+        return true;
+    }
+
+    private void aplicar(JsonNode registro, Map<Long, Tarefa> tarefas) throws JsonProcessingException {
+        String op = registro.path("op").asText();
+        switch (op) {
+            case OP_INCLUIR:
+            case OP_ATUALIZAR:
+                Tarefa tarefa = objectMapper.treeToValue(registro.get("t"), Tarefa.class);
+                tarefas.put(tarefa.getId(), tarefa);
+                break;
+            case OP_STATUS:
+                Tarefa existente = tarefas.get(registro.path("id").asLong());
+                if (existente != null) {
+                    if (StatusTarefa.valueOf(registro.path("s").asText()) == StatusTarefa.CONCLUIDA) {
+                        existente.marcarComoConcluida();
+                    } else {
+                        existente.marcarComoPendente();
+                    }
+                }
+                break;
+            case OP_EXCLUIR:
+                tarefas.remove(registro.path("id").asLong());
+                break;
+            default:
+                throw new PersistenciaException("Operação desconhecida no log de tarefas: " + op);
+        }
+    }
+
+    private ObjectNode novoRegistro(String op) {
+        ObjectNode registro = objectMapper.createObjectNode();
+        registro.put("op", op);
+        return registro;
+    }
+
+    private void anexar(ObjectNode registro) throws PersistenciaException {
+        try {
+            if (escritorLog == null) {
+                Path parentDir = caminhoLog.toAbsolutePath().getParent();
+                if (parentDir != null && !Files.exists(parentDir)) {
+                    Files.createDirectories(parentDir);
+                }
+                escritorLog = Files.newBufferedWriter(caminhoLog, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            escritorLog.write(objectMapper.writeValueAsString(registro));
+            escritorLog.newLine();
+            escritorLog.flush();
+            registrosNoLog++;
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao gravar no log de tarefas: " + caminhoLog, e);
+        }
+    }
+
+    private void fecharEscritor() throws IOException {
+        if (escritorLog != null) {
+            escritorLog.close();
+            escritorLog = null;
+        }
+    }
+}
\ No newline at end of file
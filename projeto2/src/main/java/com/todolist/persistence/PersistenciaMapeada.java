@@ -0,0 +1,481 @@
+package main.java.com.todolist.persistence;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.util.MapaLongo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * Persistência em arquivo mapeado em memória com registros de tamanho fixo.
+ * <p>
+ * O arquivo principal tem um cabeçalho seguido de um registro de 32 bytes por tarefa
+ * (ID, status, flags, dia epoch e posição/tamanho de título e descrição). Os textos ficam numa
+ * área de overflow separada, {@code <arquivo>.textos.<geração>}, só com anexação. Mudar o status
+ * é a escrita de um único byte no registro; atualizações anexam os textos novos e reescrevem o
+ * registro no lugar; exclusões apenas desligam a flag de ativo. O espaço morto é recuperado quando
+ * {@link #salvar(List)} reescreve tudo numa nova geração.
+ * <p>
+ * {@link #carregar()} só copia os registros ativos; cada tarefa é decodificada quando a lista
+ * retornada é acessada, a partir dessa cópia e dos textos, que nunca são sobrescritos, e de novo
+ * a cada acesso: quem precisa dos objetos deve percorrê-la uma vez só. A lista continua válida
+ * depois de {@link #salvar(List)} e das gravações incrementais. Cada arquivo é limitado a 2 GB
+ * pelo mapeamento. Um registro corrompido lança PersistenciaException quando é decodificado.
+ * <p>
+ * As gravações incrementais vão direto ao mapeamento: sobrevivem à queda do processo, mas só é
+ * garantido que chegaram ao disco depois de {@link #close()} ou {@link #salvar(List)}.
+ */
+public class PersistenciaMapeada implements PersistenciaIncremental, Closeable {
+
+    private static final byte[] ASSINATURA = {'T', 'D', 'L', 'M'};
+    private static final int VERSAO_FORMATO = 1;
+    private static final int TAMANHO_CABECALHO = 64;
+    private static final int TAMANHO_REGISTRO = 32;
+    private static final int CAPACIDADE_INICIAL = 64 * 1024;
+
+    // Campos do cabeçalho.
+    private static final int CAB_VERSAO = 4;
+    private static final int CAB_SLOTS_USADOS = 8;
+    private static final int CAB_TEXTOS_USADOS = 12;
+    private static final int CAB_ATIVOS = 16;
+    private static final int CAB_TEXTOS_VIVOS = 20;
+    private static final int CAB_GERACAO = 24;
+
+    // Campos do registro.
+    private static final int REG_ID = 0;
+    private static final int REG_STATUS = 8;
+    private static final int REG_FLAGS = 9;
+    private static final int REG_DATA = 12;
+    private static final int REG_TITULO = 16;
+    private static final int REG_TAMANHO_TITULO = 20;
+    private static final int REG_DESCRICAO = 24;
+    private static final int REG_TAMANHO_DESCRICAO = 28;
+
+    private static final int FLAG_ATIVO = 1;
+    private static final int FLAG_DATA = 1 << 1;
+    private static final int FLAG_DESCRICAO = 1 << 2;
+
+    // Só compacta depois de acumular um mínimo de espaço morto.
+    private static final int MINIMO_SLOTS_MORTOS = 1024;
+    private static final int MINIMO_BYTES_MORTOS = 1024 * 1024;
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+
+    private final Path caminhoArquivo;
+    private FileChannel canalRegistros;
+    private FileChannel canalTextos;
+    private MappedByteBuffer registros;
+    private MappedByteBuffer textos;
+    private MapaLongo<Integer> slotPorId;
+    private int slotsUsados;
+    private int textosUsados;
+    private int ativos;
+    private int textosVivos;
+    private int geracao;
+
+    public PersistenciaMapeada(String nomeArquivo) {
+        this.caminhoArquivo = Paths.get(nomeArquivo);
+    }
+
+    @Override
+    public synchronized List<Tarefa> carregar() throws PersistenciaException {
+        try {
+            abrirSeNecessario();
+        } catch (IOException | IllegalStateException e) {
+            throw new PersistenciaException("Erro ao abrir arquivo mapeado de tarefas: " + caminhoArquivo + ". O arquivo pode estar corrompido.", e);
+        }
+        // Os registros mudam no lugar com as gravações incrementais; os textos só recebem anexos.
+        ByteBuffer copia = ByteBuffer.allocate(ativos * TAMANHO_REGISTRO);
+        for (int slot = 0; slot < slotsUsados && copia.hasRemaining(); slot++) {
+            int base = posicaoDoSlot(slot);
+            if ((registros.get(base + REG_FLAGS) & FLAG_ATIVO) != 0) {
+                ByteBuffer registro = registros.duplicate();
+                registro.position(base).limit(base + TAMANHO_REGISTRO);
+                copia.put(registro);
+            }
+        }
+        copia.flip();
+        return new TarefasMapeadas(copia, textos.duplicate());
+    }
+
+    @Override
+    public synchronized void salvar(List<Tarefa> tarefas) throws PersistenciaException {
+        try {
+            abrirSeNecessario();
+        } catch (IOException | IllegalStateException e) {
+            // Um arquivo ilegível será simplesmente substituído.
+            fecharCanaisSilenciosamente();
+        }
+        int novaGeracao = geracao + 1;
+        Path temporario = caminhoArquivo.resolveSibling(caminhoArquivo.getFileName() + ".tmp");
+        Path textosAntigos = geracao > 0 ? caminhoTextos(geracao) : null;
+        boolean movido = false;
+        try {
+            fecharCanais();
+            Path parentDir = caminhoArquivo.toAbsolutePath().getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            criarArquivos(temporario, novaGeracao, tarefas.size());
+            for (Tarefa tarefa : tarefas) {
+                incluir(tarefa);
+            }
+            escreverCabecalho();
+            registros.force();
+            textos.force();
+            fecharCanais();
+            // O arquivo principal só passa a apontar para a nova geração de textos depois do move.
+            Files.move(temporario, caminhoArquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            movido = true;
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao salvar tarefas no arquivo mapeado: " + caminhoArquivo, e);
+        } finally {
+            if (!movido) {
+                // Qualquer falha, inclusive de uma tarefa inválida, descarta a nova geração: a próxima
+                // operação reabre o arquivo original em vez de continuar gravando no temporário.
+                fecharCanaisSilenciosamente();
+                excluirSilenciosamente(temporario);
+                excluirSilenciosamente(caminhoTextos(novaGeracao));
+            }
+        }
+        if (textosAntigos != null) {
+            try {
+                Files.deleteIfExists(textosAntigos);
+            } catch (IOException e) {
+                System.err.println("AVISO: Não foi possível remover textos antigos: " + textosAntigos);
+            }
+        }
+    }
+
+    // O ID é localizado pelo índice de slots; só o registro da tarefa é decodificado.
+    @Override
+    public synchronized Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        abrirParaEscrita();
+        Integer slot = slotPorId.get(id);
+        return slot != null ? Optional.of(decodificar(registros, posicaoDoSlot(slot), textos)) : Optional.empty();
+    }
+
+    @Override
+    public synchronized void registrarInclusao(Tarefa tarefa) throws PersistenciaException {
+        gravar(tarefa);
+    }
+
+    @Override
+    public synchronized void registrarAtualizacao(Tarefa tarefa) throws PersistenciaException {
+        gravar(tarefa);
+    }
+
+    @Override
+    public synchronized void registrarStatus(long id, StatusTarefa status) throws PersistenciaException {
+        abrirParaEscrita();
+        Integer slot = slotPorId.get(id);
+        if (slot != null) {
+            registros.put(posicaoDoSlot(slot) + REG_STATUS, (byte) status.ordinal());
+        }
+    }
+
+    @Override
+    public synchronized void registrarExclusao(long id) throws PersistenciaException {
+        abrirParaEscrita();
+        Integer slot = slotPorId.remove(id);
+        if (slot == null) {
+            return;
+        }
+        int base = posicaoDoSlot(slot);
+        registros.put(base + REG_FLAGS, (byte) (registros.get(base + REG_FLAGS) & ~FLAG_ATIVO));
+        textosVivos -= registros.getInt(base + REG_TAMANHO_TITULO) + registros.getInt(base + REG_TAMANHO_DESCRICAO);
+        ativos--;
+        escreverCabecalho();
+    }
+
+    @Override
+    public synchronized boolean precisaCompactar() {
+        int slotsMortos = slotsUsados - ativos;
+        int bytesMortos = textosUsados - textosVivos;
+        return (slotsMortos > MINIMO_SLOTS_MORTOS && slotsMortos > ativos)
+                || (bytesMortos > MINIMO_BYTES_MORTOS && bytesMortos > textosVivos);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (registros != null) {
+            registros.force();
+            textos.force();
+        }
+        fecharCanaisSilenciosamente();
+    }
+
+    private void gravar(Tarefa tarefa) throws PersistenciaException {
+        abrirParaEscrita();
+        if (slotPorId.containsKey(tarefa.getId())) {
+            atualizar(tarefa);
+        } else {
+            incluir(tarefa);
+        }
+        escreverCabecalho();
+    }
+
+    private void abrirParaEscrita() throws PersistenciaException {
+        try {
+            abrirSeNecessario();
+        } catch (IOException | IllegalStateException e) {
+            throw new PersistenciaException("Erro ao abrir arquivo mapeado de tarefas: " + caminhoArquivo, e);
+        }
+    }
+
+    private void abrirSeNecessario() throws IOException {
+        if (registros != null) {
+            return;
+        }
+        if (!Files.exists(caminhoArquivo) || Files.size(caminhoArquivo) < TAMANHO_CABECALHO) {
+            Path parentDir = caminhoArquivo.toAbsolutePath().getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+            criarArquivos(caminhoArquivo, 1, 0);
+            escreverCabecalho();
+            return;
+        }
+        canalRegistros = FileChannel.open(caminhoArquivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        registros = canalRegistros.map(FileChannel.MapMode.READ_WRITE, 0, canalRegistros.size());
+        byte[] assinatura = new byte[ASSINATURA.length];
+        registros.duplicate().get(assinatura);
+        if (!Arrays.equals(assinatura, ASSINATURA) || registros.get(CAB_VERSAO) != VERSAO_FORMATO) {
+            fecharCanaisSilenciosamente();
+            throw new IllegalStateException("Arquivo mapeado de tarefas com assinatura ou versão inválida.");
+        }
+        slotsUsados = registros.getInt(CAB_SLOTS_USADOS);
+        textosUsados = registros.getInt(CAB_TEXTOS_USADOS);
+        ativos = registros.getInt(CAB_ATIVOS);
+        textosVivos = registros.getInt(CAB_TEXTOS_VIVOS);
+        geracao = registros.getInt(CAB_GERACAO);
+        if (slotsUsados < 0 || TAMANHO_CABECALHO + (long) slotsUsados * TAMANHO_REGISTRO > registros.capacity()
+                || ativos < 0 || ativos > slotsUsados) {
+            fecharCanaisSilenciosamente();
+            throw new IllegalStateException("Arquivo mapeado de tarefas com cabeçalho inválido.");
+        }
+        canalTextos = FileChannel.open(caminhoTextos(geracao), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        textos = canalTextos.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(canalTextos.size(), textosUsados));
+
+        slotPorId = new MapaLongo<>(ativos);
+        for (int slot = 0; slot < slotsUsados; slot++) {
+            int base = posicaoDoSlot(slot);
+            if ((registros.get(base + REG_FLAGS) & FLAG_ATIVO) != 0) {
+                slotPorId.put(registros.getLong(base + REG_ID), slot);
+            }
+        }
+    }
+
+    private void criarArquivos(Path arquivoRegistros, int novaGeracao, int tarefasEsperadas) throws IOException {
+        canalRegistros = FileChannel.open(arquivoRegistros, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        canalTextos = FileChannel.open(caminhoTextos(novaGeracao), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        registros = canalRegistros.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(CAPACIDADE_INICIAL, TAMANHO_CABECALHO + (long) tarefasEsperadas * TAMANHO_REGISTRO));
+        textos = canalTextos.map(FileChannel.MapMode.READ_WRITE, 0, CAPACIDADE_INICIAL);
+        registros.put(0, ASSINATURA[0]).put(1, ASSINATURA[1]).put(2, ASSINATURA[2]).put(3, ASSINATURA[3]);
+        registros.put(CAB_VERSAO, (byte) VERSAO_FORMATO);
+        slotPorId = new MapaLongo<>(tarefasEsperadas);
+        slotsUsados = 0;
+        textosUsados = 0;
+        ativos = 0;
+        textosVivos = 0;
+        geracao = novaGeracao;
+    }
+
+    private void incluir(Tarefa tarefa) throws PersistenciaException {
+        int slot = slotsUsados;
+        garantirCapacidadeRegistros(slot + 1);
+        escreverRegistro(slot, tarefa);
+        slotsUsados++;
+        ativos++;
+        slotPorId.put(tarefa.getId(), slot);
+    }
+
+    private void atualizar(Tarefa tarefa) throws PersistenciaException {
+        int slot = slotPorId.get(tarefa.getId());
+        int base = posicaoDoSlot(slot);
+        textosVivos -= registros.getInt(base + REG_TAMANHO_TITULO) + registros.getInt(base + REG_TAMANHO_DESCRICAO);
+        escreverRegistro(slot, tarefa);
+    }
+
+    // Anexa os textos primeiro; o registro só passa a apontar para eles no fim.
+    private void escreverRegistro(int slot, Tarefa tarefa) throws PersistenciaException {
+        byte[] titulo = tarefa.getTitulo().getBytes(StandardCharsets.UTF_8);
+        byte[] descricao = tarefa.getDescricao() != null ? tarefa.getDescricao().getBytes(StandardCharsets.UTF_8) : null;
+        int posicaoTitulo = anexarTexto(titulo);
+        int posicaoDescricao = descricao != null ? anexarTexto(descricao) : 0;
+
+        int base = posicaoDoSlot(slot);
+        LocalDate data = tarefa.getDataVencimento();
+        StatusTarefa status = tarefa.getStatus() != null ? tarefa.getStatus() : StatusTarefa.PENDENTE;
+        int flags = FLAG_ATIVO | (data != null ? FLAG_DATA : 0) | (descricao != null ? FLAG_DESCRICAO : 0);
+        registros.putLong(base + REG_ID, tarefa.getId());
+        registros.put(base + REG_STATUS, (byte) status.ordinal());
+        registros.putInt(base + REG_DATA, data != null ? diaEpoch(data, tarefa.getId()) : 0);
+        registros.putInt(base + REG_TITULO, posicaoTitulo);
+        registros.putInt(base + REG_TAMANHO_TITULO, titulo.length);
+        registros.putInt(base + REG_DESCRICAO, posicaoDescricao);
+        registros.putInt(base + REG_TAMANHO_DESCRICAO, descricao != null ? descricao.length : 0);
+        registros.put(base + REG_FLAGS, (byte) flags);
+        textosVivos += titulo.length + (descricao != null ? descricao.length : 0);
+    }
+
+    private int anexarTexto(byte[] bytes) throws PersistenciaException {
+        int posicao = textosUsados;
+        garantirCapacidadeTextos((long) posicao + bytes.length);
+        ByteBuffer destino = textos.duplicate();
+        destino.position(posicao);
+        destino.put(bytes);
+        textosUsados += bytes.length;
+        return posicao;
+    }
+
+    private static int diaEpoch(LocalDate data, long id) throws PersistenciaException {
+        long dia = data.toEpochDay();
+        if (dia < Integer.MIN_VALUE || dia > Integer.MAX_VALUE) {
+            throw new PersistenciaException("Data de vencimento da tarefa " + id + " fora do intervalo do arquivo mapeado: " + data);
+        }
+        return (int) dia;
+    }
+
+    private static Tarefa decodificar(ByteBuffer registros, int base, ByteBuffer textos) throws PersistenciaException {
+        long id = registros.getLong(base + REG_ID);
+        int flags = registros.get(base + REG_FLAGS);
+        int status = registros.get(base + REG_STATUS);
+        if (status < 0 || status >= STATUS.length) {
+            throw new PersistenciaException("Status inválido (" + status + ") no registro da tarefa " + id + ". O arquivo pode estar corrompido.");
+        }
+        String titulo = lerTexto(textos, registros.getInt(base + REG_TITULO), registros.getInt(base + REG_TAMANHO_TITULO), id);
+        String descricao = (flags & FLAG_DESCRICAO) != 0
+                ? lerTexto(textos, registros.getInt(base + REG_DESCRICAO), registros.getInt(base + REG_TAMANHO_DESCRICAO), id)
+                : null;
+        LocalDate data = (flags & FLAG_DATA) != 0 ? LocalDate.ofEpochDay(registros.getInt(base + REG_DATA)) : null;
+        return new Tarefa(id, titulo, descricao, data, STATUS[status]);
+    }
+
+    private static String lerTexto(ByteBuffer textos, int posicao, int tamanho, long id) throws PersistenciaException {
+        if (posicao < 0 || tamanho < 0 || (long) posicao + tamanho > textos.limit()) {
+            throw new PersistenciaException("Texto fora da área de textos no registro da tarefa " + id + ". O arquivo pode estar corrompido.");
+        }
+        byte[] bytes = new byte[tamanho];
+        ByteBuffer origem = textos.duplicate();
+        origem.position(posicao);
+        origem.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void escreverCabecalho() {
+        registros.putInt(CAB_SLOTS_USADOS, slotsUsados);
+        registros.putInt(CAB_TEXTOS_USADOS, textosUsados);
+        registros.putInt(CAB_ATIVOS, ativos);
+        registros.putInt(CAB_TEXTOS_VIVOS, textosVivos);
+        registros.putInt(CAB_GERACAO, geracao);
+    }
+
+    private void garantirCapacidadeRegistros(int slots) throws PersistenciaException {
+        long necessario = TAMANHO_CABECALHO + (long) slots * TAMANHO_REGISTRO;
+        if (necessario > registros.capacity()) {
+            registros = remapear(canalRegistros, registros.capacity(), necessario);
+        }
+    }
+
+    private void garantirCapacidadeTextos(long necessario) throws PersistenciaException {
+        if (necessario > textos.capacity()) {
+            textos = remapear(canalTextos, textos.capacity(), necessario);
+        }
+    }
+
+    private MappedByteBuffer remapear(FileChannel canal, long capacidadeAtual, long necessario) throws PersistenciaException {
+        long novaCapacidade = Math.min(Integer.MAX_VALUE, Math.max(necessario, capacidadeAtual * 2));
+        if (necessario > novaCapacidade) {
+            throw new PersistenciaException("Arquivo mapeado de tarefas excedeu o limite de 2 GB: " + caminhoArquivo);
+        }
+        try {
+            return canal.map(FileChannel.MapMode.READ_WRITE, 0, novaCapacidade);
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao ampliar arquivo mapeado de tarefas: " + caminhoArquivo, e);
+        }
+    }
+
+    private Path caminhoTextos(int geracaoTextos) {
+        return caminhoArquivo.resolveSibling(caminhoArquivo.getFileName() + ".textos." + geracaoTextos);
+    }
+
+    private static int posicaoDoSlot(int slot) {
+        return TAMANHO_CABECALHO + slot * TAMANHO_REGISTRO;
+    }
+
+    private void fecharCanais() throws IOException {
+        registros = null;
+        textos = null;
+        slotPorId = null;
+        if (canalRegistros != null) {
+            canalRegistros.close();
+            canalRegistros = null;
+        }
+        if (canalTextos != null) {
+            canalTextos.close();
+            canalTextos = null;
+        }
+    }
+
+    private static void excluirSilenciosamente(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            System.err.println("AVISO: Não foi possível remover arquivo temporário: " + arquivo);
+        }
+    }
+
+    private void fecharCanaisSilenciosamente() {
+        try {
+            fecharCanais();
+        } catch (IOException e) {
+            System.err.println("AVISO: Erro ao fechar arquivo mapeado de tarefas: " + e.getMessage());
+        }
+    }
+
+    // Lista que decodifica cada tarefa quando acessada, a partir da cópia dos registros feita em
+    // carregar(). O mapeamento dos textos continua legível mesmo depois de fechado o canal.
+    private static final class TarefasMapeadas extends AbstractList<Tarefa> implements RandomAccess {
+        private final ByteBuffer registros;
+        private final ByteBuffer textos;
+
+        TarefasMapeadas(ByteBuffer registros, ByteBuffer textos) {
+            this.registros = registros;
+            this.textos = textos;
+        }
+
+        @Override
+        public Tarefa get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + size());
+            }
+            return decodificar(registros, index * TAMANHO_REGISTRO, textos);
+        }
+
+        @Override
+        public int size() {
+            return registros.limit() / TAMANHO_REGISTRO;
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,9 @@
 package main.java.com.todolist.persistence;
 
 import main.java.com.todolist.domain.Tarefa;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public interface PersistenciaTarefas {
     /**
@@ -17,4 +19,52 @@ public interface PersistenciaTarefas {
      * @throws PersistenciaException Se ocorrer um erro durante a operação.
      */
     List<Tarefa> carregar() throws PersistenciaException;
+
+    /**
+     * Carrega uma única tarefa. A implementação padrão lê a lista inteira; backends que
+     * conseguem localizar a tarefa diretamente devem sobrescrever.
+     * @param id ID da tarefa.
+     * @return Optional contendo a tarefa, ou vazio se não existir.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default Optional<Tarefa> carregarTarefa(long id) throws PersistenciaException {
+        for (Tarefa tarefa : carregar()) {
+            if (tarefa.getId() == id) {
+                return Optional.of(tarefa);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Inclui a tarefa ou substitui a de mesmo ID. A implementação padrão regrava a lista inteira.
+     * @param tarefa Tarefa já com ID atribuído.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default void salvarTarefa(Tarefa tarefa) throws PersistenciaException {
+        List<Tarefa> tarefas = new ArrayList<>(carregar());
+        boolean substituida = false;
+        for (int i = 0; i < tarefas.size() && !substituida; i++) {
+            if (tarefas.get(i).getId() == tarefa.getId()) {
+                tarefas.set(i, tarefa);
+                substituida = true;
+            }
+        }
+        if (!substituida) {
+            tarefas.add(tarefa);
+        }
+        salvar(tarefas);
+    }
+
+    /**
+     * Exclui uma única tarefa, se existir. A implementação padrão regrava a lista inteira.
+     * @param id ID da tarefa.
+     * @throws PersistenciaException Se ocorrer um erro durante a operação.
+     */
+    default void excluirTarefa(long id) throws PersistenciaException {
+        List<Tarefa> tarefas = new ArrayList<>(carregar());
+        if (tarefas.removeIf(tarefa -> tarefa.getId() == id)) {
+            salvar(tarefas);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.LeitorBlocos;
+import main.java.com.todolist.persistence.PersistenciaException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+// Carga em segundo plano do início rápido: os blocos são decodificados em paralelo no pool
+// fork-join comum e entregues ao gerenciador na ordem do arquivo por uma thread própria.
+class CarregamentoParalelo {
+
+    private final LeitorBlocos leitor;
+    private final CompletableFuture<List<Tarefa>>[] blocos;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    CarregamentoParalelo(LeitorBlocos leitor) {
+        this.leitor = leitor;
+        this.blocos = new CompletableFuture[leitor.quantidadeBlocos()];
+        for (int i = 0; i < blocos.length; i++) {
+            blocos[i] = new CompletableFuture<>();
+        }
+    }
+
+    int quantidadeBlocos() {
+        return blocos.length;
+    }
+
+    // Quantos blocos, na ordem de entrega, precisam estar integrados para que o ID seja encontrado.
+    int blocosNecessarios(long id) {
+        for (int i = blocos.length - 1; i >= 0; i--) {
+            if (leitor.menorIdDoBloco(i) <= id && id <= leitor.maiorIdDoBloco(i)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param integrarBloco Recebe as tarefas de cada bloco, em ordem, sempre na mesma thread.
+     * @param concluir Chamado uma vez ao final, com a falha que interrompeu a carga ou null.
+     */
+    void iniciar(Consumer<List<Tarefa>> integrarBloco, Consumer<PersistenciaException> concluir) {
+        if (blocos.length > 0) {
+            ForkJoinPool.commonPool().execute(new DecodificarBlocos(0, blocos.length));
+        }
+        Thread integrador = new Thread(() -> {
+            PersistenciaException falha = null;
+            try {
+                for (CompletableFuture<List<Tarefa>> bloco : blocos) {
+                    integrarBloco.accept(bloco.join());
+                }
+            } catch (CompletionException e) {
+                falha = e.getCause() instanceof PersistenciaException
+                        ? (PersistenciaException) e.getCause()
+                        : new PersistenciaException("Erro ao carregar tarefas em segundo plano.", e.getCause());
+            } finally {
+                try {
+                    leitor.close();
+                } catch (PersistenciaException e) {
+                    System.err.println("AVISO: " + e.getMessage());
+                }
+                concluir.accept(falha);
+            }
+        }, "carga-tarefas");
+        integrador.setDaemon(true);
+        integrador.start();
+    }
+
+    @SuppressWarnings("serial")
+    private final class DecodificarBlocos extends RecursiveAction {
+        private final int inicio;
+        private final int fim;
+
+        DecodificarBlocos(int inicio, int fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio > 1) {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new DecodificarBlocos(inicio, meio), new DecodificarBlocos(meio, fim));
+                return;
+            }
+            try {
+                blocos[inicio].complete(leitor.lerBloco(inicio));
+            } catch (RuntimeException e) {
+                blocos[inicio].completeExceptionally(e);
+            }
+        }
+    }
+}
\ No newline at end of file
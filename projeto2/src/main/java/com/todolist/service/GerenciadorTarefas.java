@@ -2,128 +2,1154 @@ package main.java.com.todolist.service;
 
 import main.java.com.todolist.domain.StatusTarefa;
 import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.eventos.Assinatura;
+import main.java.com.todolist.eventos.EventoTarefa;
+import main.java.com.todolist.eventos.PoliticaContrapressao;
+import main.java.com.todolist.eventos.PublicadorEventos;
+import main.java.com.todolist.eventos.TipoEvento;
+import main.java.com.todolist.metricas.Metricas;
+import main.java.com.todolist.metricas.OperacaoMedida;
+import main.java.com.todolist.persistence.LeitorBlocos;
+import main.java.com.todolist.persistence.PersistenciaDelta;
+import main.java.com.todolist.persistence.PersistenciaEmBlocos;
 import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaIncremental;
 import main.java.com.todolist.persistence.PersistenciaTarefas;
+import main.java.com.todolist.util.DeduplicadorTextos;
+import main.java.com.todolist.util.MapaLongo;
+import main.java.com.todolist.util.MapaLongoPersistente;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class GerenciadorTarefas {
+public class GerenciadorTarefas implements AutoCloseable {
 
-    private final List<Tarefa> tarefas;
+    private static final int TAMANHO_PAGINA_ITERACAO = 1024;
+    private static final int PRE_ALOCACAO_MAXIMA = 1 << 22;
+
+    // Índice primário por ID. As tarefas entram em ordem crescente de ID, o que permite a
+    // paginação por cursor; é também a ordem de listarTodas.
+    private final MapaLongo<Tarefa> tarefas;
+    // Índices secundários por status, mantidos a cada mudança feita pelo gerenciador.
+    private final Map<StatusTarefa, MapaLongo<Tarefa>> tarefasPorStatus;
+    // Índices por data de vencimento, um por status, para consultas por período sem varrer tudo.
+    private final Map<StatusTarefa, IndiceVencimento> vencimentosPorStatus;
+    private final IndiceTexto indiceTexto = new IndiceTexto();
+    // Títulos e descrições repetidos passam a apontar para a mesma String.
+    private final DeduplicadorTextos textos = new DeduplicadorTextos();
     private final AtomicLong proximoId;
     private final PersistenciaTarefas persistencia;
+    // Não nulo se a persistência aceita deltas; as alterações e exclusões ficam pendentes até o próximo.
+    private final PersistenciaDelta persistenciaDelta;
+    private Set<Long> alteracoesPendentes = new LinkedHashSet<>();
+    private List<Long> exclusoesPendentes = new ArrayList<>();
+    private final Metricas metricas;
+    private final PublicadorEventos eventos = new PublicadorEventos();
+    // Versões congeladas das tarefas para os instantâneos; null até o primeiro ser pedido.
+    private MapaLongoPersistente<Tarefa> versoes;
+    private long numeroVersao;
+    private GravacaoAdiada gravacaoAdiada;
+    // Sem backend incremental, a lista inteira é gravada fora da trava do gerenciador: cada alteração
+    // só avança versaoAlterada e, ao sair, a thread grava ou espera quem já está gravando. Como cada
+    // gravação captura o estado do momento, uma só cobre todas as threads que esperavam por ela.
+    private final ReentrantLock travaGravacao = new ReentrantLock();
+    private long versaoAlterada;
+    // Protegida por travaGravacao.
+    private long versaoGravada;
+    private volatile boolean gravacaoPendente;
+
+    // Carga em segundo plano do início rápido; null quando todas as tarefas já foram integradas.
+    private volatile CarregamentoParalelo carregamento;
+    private int blocosIntegrados;
+    private long quantidadeAnunciada;
+    private long inicioCarga;
 
+    /**
+     * Se a persistência lê por blocos ({@link PersistenciaEmBlocos}), o construtor só lê o cabeçalho
+     * e as tarefas são carregadas em paralelo em segundo plano; operações por ID esperam apenas os
+     * blocos que podem conter aquele ID e as demais esperam a carga terminar.
+     */
     public GerenciadorTarefas(PersistenciaTarefas persistencia) {
+        this(persistencia, Metricas.DESATIVADAS);
+    }
+
+    /**
+     * @param metricas Recebe a duração de cada operação e de cada chamada à persistência.
+     */
+    public GerenciadorTarefas(PersistenciaTarefas persistencia, Metricas metricas) {
         this.persistencia = persistencia;
+        this.persistenciaDelta = persistencia instanceof PersistenciaDelta ? (PersistenciaDelta) persistencia : null;
+        this.metricas = metricas != null ? metricas : Metricas.DESATIVADAS;
+        this.inicioCarga = this.metricas.iniciar();
+        this.tarefasPorStatus = new EnumMap<>(StatusTarefa.class);
+        this.vencimentosPorStatus = new EnumMap<>(StatusTarefa.class);
+        for (StatusTarefa status : StatusTarefa.values()) {
+            tarefasPorStatus.put(status, new MapaLongo<>());
+            vencimentosPorStatus.put(status, new IndiceVencimento());
+        }
+        LeitorBlocos leitor = persistencia instanceof PersistenciaEmBlocos ? abrirLeitorBlocos((PersistenciaEmBlocos) persistencia, this.metricas) : null;
+        if (leitor != null) {
+            this.quantidadeAnunciada = leitor.quantidadeTarefas();
+            // A quantidade vem do cabeçalho do arquivo: a pré-alocação é limitada e o resto cresce sob demanda.
+            this.tarefas = new MapaLongo<>((int) Math.max(0, Math.min(quantidadeAnunciada, PRE_ALOCACAO_MAXIMA)));
+            this.proximoId = new AtomicLong(leitor.maiorId() + 1);
+            System.out.println(quantidadeAnunciada + " tarefas encontradas; carregando em segundo plano.");
+            this.carregamento = new CarregamentoParalelo(leitor);
+            carregamento.iniciar(this::integrarBloco, this::concluirCarregamento);
+            return;
+        }
         List<Tarefa> tarefasCarregadas;
         try {
-             tarefasCarregadas = persistencia.carregar();
+             // Uma passada só pela lista recebida: a de PersistenciaMapeada decodifica a cada acesso.
+             tarefasCarregadas = new ArrayList<>(persistencia.carregar());
              System.out.println(tarefasCarregadas.size() + " tarefas carregadas.");
         } catch (PersistenciaException e) {
              System.err.println("AVISO: Não foi possível carregar tarefas salvas. Iniciando com lista vazia. Erro: " + e.getMessage());
+             this.metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_CARREGAR, e);
              tarefasCarregadas = new ArrayList<>();
+        } finally {
+            this.metricas.registrar(OperacaoMedida.PERSISTENCIA_CARREGAR, inicioCarga);
+        }
+        if (!ordenadasPorId(tarefasCarregadas)) {
+            tarefasCarregadas.sort(Comparator.comparingLong(Tarefa::getId));
+        }
+        this.tarefas = new MapaLongo<>(tarefasCarregadas.size());
+        this.proximoId = new AtomicLong(1);
+        integrarTarefas(tarefasCarregadas);
+    }
+
+    private static LeitorBlocos abrirLeitorBlocos(PersistenciaEmBlocos persistencia, Metricas metricas) {
+        try {
+            return persistencia.abrirLeitorBlocos();
+        } catch (PersistenciaException e) {
+            metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_CARREGAR, e);
+            System.err.println("AVISO: Não foi possível ler o cabeçalho das tarefas salvas. Carregando tudo de uma vez. Erro: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void integrarTarefas(List<Tarefa> carregadas) {
+        long maxId = 0L;
+        for (Tarefa tarefa : carregadas) {
+            if (tarefa.getStatus() == null) {
+                tarefa.marcarComoPendente();
+            }
+            compartilharTextos(tarefa);
+            // Recém-carregada, a tarefa não tem nada a gravar.
+            tarefa.limparAlteracoes();
+            Tarefa anterior = tarefas.put(tarefa.getId(), tarefa);
+            if (anterior != null) {
+                System.err.println("AVISO: ID de tarefa duplicado nos dados salvos, mantendo a última ocorrência: " + tarefa.getId());
+                desindexar(anterior);
+                indiceTexto.remover(anterior);
+            }
+            indexar(tarefa);
+            indiceTexto.adicionar(tarefa);
+            maxId = Math.max(maxId, tarefa.getId());
+        }
+        proximoId.accumulateAndGet(maxId + 1, Math::max);
+    }
+
+    private synchronized void integrarBloco(List<Tarefa> bloco) {
+        integrarTarefas(bloco);
+        blocosIntegrados++;
+        notifyAll();
+    }
+
+    private synchronized void concluirCarregamento(PersistenciaException falha) {
+        metricas.registrar(OperacaoMedida.PERSISTENCIA_CARREGAR, inicioCarga);
+        if (falha != null) {
+            metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_CARREGAR, falha);
+            System.err.println("AVISO: Carga interrompida; seguindo com " + tarefas.size() + " de " + quantidadeAnunciada + " tarefas. Erro: " + falha.getMessage());
+        } else {
+            System.out.println(tarefas.size() + " tarefas carregadas.");
+        }
+        // Arquivos gravados fora de ordem de ID são reordenados para manter a paginação por cursor.
+        List<Tarefa> integradas = tarefas.copiarValores();
+        if (!ordenadasPorId(integradas)) {
+            integradas.sort(Comparator.comparingLong(Tarefa::getId));
+            tarefas.clear();
+            for (Tarefa tarefa : integradas) {
+                tarefas.put(tarefa.getId(), tarefa);
+            }
+        }
+        carregamento = null;
+        notifyAll();
+    }
+
+    /**
+     * Bloqueia até que todas as tarefas salvas estejam carregadas. Sem início rápido, retorna imediatamente.
+     */
+    public void aguardarCarregamento() {
+        aguardarBlocos(Integer.MAX_VALUE);
+    }
+
+    // Operações por ID esperam só os blocos que podem conter o ID (e os anteriores, integrados em ordem).
+    private void aguardarId(long id) {
+        CarregamentoParalelo emAndamento = carregamento;
+        if (emAndamento != null) {
+            aguardarBlocos(emAndamento.blocosNecessarios(id));
+        }
+    }
+
+    private void aguardarBlocos(int quantidade) {
+        if (carregamento == null) {
+            return;
+        }
+        synchronized (this) {
+            while (carregamento != null && blocosIntegrados < quantidade) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrompido aguardando a carga das tarefas.", e);
+                }
+            }
         }
-        this.tarefas = new ArrayList<>(tarefasCarregadas);
+    }
 
-        long maxId = tarefasCarregadas.stream()
-                                     .mapToLong(Tarefa::getId)
-                                     .max()
-                                     .orElse(0L);
-        this.proximoId = new AtomicLong(maxId + 1);
+    /**
+     * Cria o gerenciador em modo de gravação adiada: as alterações são gravadas em segundo plano,
+     * agrupadas a cada {@code tamanhoLote} alterações ou, no máximo, {@code intervaloMaximo}
+     * depois da alteração mais antiga ainda não gravada. Use {@link #flush()} ou {@link #close()}
+     * para garantir que tudo foi gravado.
+     */
+    public static GerenciadorTarefas comGravacaoAdiada(PersistenciaTarefas persistencia, Duration intervaloMaximo, int tamanhoLote) {
+        return comGravacaoAdiada(persistencia, Metricas.DESATIVADAS, intervaloMaximo, tamanhoLote);
+    }
+
+    public static GerenciadorTarefas comGravacaoAdiada(PersistenciaTarefas persistencia, Metricas metricas,
+                                                       Duration intervaloMaximo, int tamanhoLote) {
+        GerenciadorTarefas gerenciador = new GerenciadorTarefas(persistencia, metricas);
+        gerenciador.gravacaoAdiada = new GravacaoAdiada(gerenciador::gravarEstado, intervaloMaximo, tamanhoLote);
+        return gerenciador;
     }
 
     public Tarefa adicionarTarefa(String titulo, String descricao, LocalDate dataVencimento) {
+        long medicao = metricas.iniciar();
+        try {
+            Tarefa novaTarefa = incluirTarefa(titulo, descricao, dataVencimento);
+            gravarPendentes();
+            return novaTarefa;
+        } finally {
+            metricas.registrar(OperacaoMedida.ADICIONAR_TAREFA, medicao);
+        }
+    }
+
+    private synchronized Tarefa incluirTarefa(String titulo, String descricao, LocalDate dataVencimento) {
         if (titulo == null || titulo.trim().isEmpty()) {
              throw new IllegalArgumentException("Título é obrigatório.");
         }
+        aguardarCarregamento();
         long novoId = proximoId.getAndIncrement();
         Tarefa novaTarefa = new Tarefa(titulo, descricao, dataVencimento);
         novaTarefa.setId(novoId);
-        tarefas.add(novaTarefa);
-        salvarDados();
+        novaTarefa.marcarComoAlterada();
+        compartilharTextos(novaTarefa);
+        tarefas.put(novoId, novaTarefa);
+        indexar(novaTarefa);
+        indiceTexto.adicionar(novaTarefa);
+        registrarAlteracaoPendente(novoId);
+        persistirAlteracao(p -> p.registrarInclusao(novaTarefa));
+        depoisDeCriar(novaTarefa);
         return novaTarefa;
     }
 
-    public Optional<Tarefa> buscarTarefaPorId(long id) {
-        return tarefas.stream()
-                      .filter(t -> t.getId() == id)
-                      .findFirst();
+    /**
+     * Adiciona várias tarefas de uma vez, com IDs alocados em um único bloco e uma única gravação.
+     * Se algum título for inválido, nenhuma tarefa é adicionada.
+     * @param novas Tarefas ainda sem ID, criadas com {@link Tarefa#Tarefa(String, String, LocalDate)}.
+     * @return As tarefas adicionadas, na ordem recebida, já com seus IDs.
+     */
+    public List<Tarefa> adicionarEmLote(List<Tarefa> novas) {
+        long medicao = metricas.iniciar();
+        try {
+            List<Tarefa> adicionadas = incluirEmLote(novas);
+            gravarPendentes();
+            return adicionadas;
+        } finally {
+            metricas.registrar(OperacaoMedida.ADICIONAR_EM_LOTE, medicao);
+        }
+    }
+
+    private synchronized List<Tarefa> incluirEmLote(List<Tarefa> novas) {
+        for (Tarefa nova : novas) {
+            if (nova.getTitulo() == null || nova.getTitulo().trim().isEmpty()) {
+                throw new IllegalArgumentException("Título é obrigatório.");
+            }
+        }
+        if (novas.isEmpty()) {
+            return Collections.emptyList();
+        }
+        aguardarCarregamento();
+        long id = proximoId.getAndAdd(novas.size());
+        List<Tarefa> adicionadas = new ArrayList<>(novas.size());
+        for (Tarefa modelo : novas) {
+            Tarefa novaTarefa = new Tarefa(modelo.getTitulo(), modelo.getDescricao(), modelo.getDataVencimento());
+            novaTarefa.setId(id);
+            novaTarefa.marcarComoAlterada();
+            compartilharTextos(novaTarefa);
+            tarefas.put(id, novaTarefa);
+            indexar(novaTarefa);
+            indiceTexto.adicionar(novaTarefa);
+            registrarAlteracaoPendente(id);
+            adicionadas.add(novaTarefa);
+            id++;
+        }
+        persistirAlteracao(p -> p.registrarInclusaoEmLote(adicionadas));
+        adicionadas.forEach(this::depoisDeCriar);
+        return Collections.unmodifiableList(adicionadas);
     }
 
-    public List<Tarefa> listarTodas() {
-        return Collections.unmodifiableList(new ArrayList<>(tarefas));
+    public synchronized Optional<Tarefa> buscarTarefaPorId(long id) {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarId(id);
+            return Optional.ofNullable(tarefas.get(id));
+        } finally {
+            metricas.registrar(OperacaoMedida.BUSCAR_POR_ID, medicao);
+        }
+    }
+
+    /**
+     * @return Cópia da lista, mas com as próprias tarefas do gerenciador, que podem mudar enquanto
+     *         ela é percorrida; para uma visão consistente, use {@link #instantaneo()}.
+     */
+    public synchronized List<Tarefa> listarTodas() {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            return Collections.unmodifiableList(tarefas.copiarValores());
+        } finally {
+            metricas.registrar(OperacaoMedida.LISTAR, medicao);
+        }
+    }
+
+    /**
+     * Retorna as tarefas como estão agora, numa visão imutável que não muda com as alterações
+     * seguintes, em O(1) e sem copiar a lista.
+     * <p>
+     * O primeiro pedido monta, em O(n), uma cópia congelada de cada tarefa numa estrutura
+     * persistente; dali em diante o gerenciador a mantém a cada alteração, copiando só a tarefa
+     * alterada e O(log n) da estrutura, o que custa cerca de 45 bytes a mais por tarefa.
+     */
+    public synchronized InstantaneoTarefas instantaneo() {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            if (versoes == null) {
+                MapaLongoPersistente.Construtor<Tarefa> construtor = new MapaLongoPersistente.Construtor<>();
+                for (Tarefa tarefa : tarefas) {
+                    construtor.adicionar(tarefa.getId(), tarefa.congelada());
+                }
+                versoes = construtor.construir();
+            }
+            return new InstantaneoTarefas(versoes, numeroVersao, Instant.now());
+        } finally {
+            metricas.registrar(OperacaoMedida.INSTANTANEO, medicao);
+        }
+    }
+
+    /**
+     * Lista uma página de tarefas em ordem de ID, custando O(log n + tamanho da página).
+     * @param cursor {@link PaginaTarefas#INICIO} ou o {@link PaginaTarefas#getProximoCursor()} da página anterior.
+     */
+    public synchronized PaginaTarefas listarPagina(long cursor, int tamanhoPagina) {
+        long medicao = metricas.iniciar();
+        try {
+            if (tamanhoPagina <= 0) {
+                throw new IllegalArgumentException("Tamanho da página deve ser positivo.");
+            }
+            aguardarCarregamento();
+            // Um item a mais só para saber se existe próxima página.
+            List<Tarefa> pagina = tarefas.valoresApos(cursor, tamanhoPagina + 1);
+            boolean temMais = pagina.size() > tamanhoPagina;
+            if (temMais) {
+                pagina.remove(tamanhoPagina);
+            }
+            long proximoCursor = pagina.isEmpty() ? cursor : pagina.get(pagina.size() - 1).getId();
+            return new PaginaTarefas(Collections.unmodifiableList(pagina), proximoCursor, temMais);
+        } finally {
+            metricas.registrar(OperacaoMedida.LISTAR, medicao);
+        }
+    }
+
+    /**
+     * Percorre todas as tarefas em ordem de ID sem copiar a lista inteira: busca uma página por vez,
+     * cada uma sob a trava do gerenciador, e cada tarefa aparece no máximo uma vez. Não é um
+     * instantâneo: tarefas criadas ou excluídas durante a iteração podem ou não aparecer, e as
+     * tarefas retornadas são as do próprio gerenciador. Para uma visão consistente, use
+     * {@link #instantaneo()}.
+     */
+    public Iterator<Tarefa> iterarTodas() {
+        return new Iterator<Tarefa>() {
+            private PaginaTarefas pagina = listarPagina(PaginaTarefas.INICIO, TAMANHO_PAGINA_ITERACAO);
+            private int posicao;
+
+            @Override
+            public boolean hasNext() {
+                if (posicao < pagina.getTarefas().size()) {
+                    return true;
+                }
+                if (!pagina.temMais()) {
+                    return false;
+                }
+                pagina = listarPagina(pagina.getProximoCursor(), TAMANHO_PAGINA_ITERACAO);
+                posicao = 0;
+                return !pagina.getTarefas().isEmpty();
+            }
+
+            @Override
+            public Tarefa next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return pagina.getTarefas().get(posicao++);
+            }
+        };
+    }
+
+    public Stream<Tarefa> streamTodas() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterarTodas(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT), false);
     }
 
     public List<Tarefa> listarPendentes() {
-        return tarefas.stream()
-                      .filter(t -> t.getStatus() == StatusTarefa.PENDENTE)
-                      .collect(Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                Collections::unmodifiableList));
+        return listarPorStatus(StatusTarefa.PENDENTE);
     }
 
     public List<Tarefa> listarConcluidas() {
-        return tarefas.stream()
-                      .filter(t -> t.getStatus() == StatusTarefa.CONCLUIDA)
-                      .collect(Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                Collections::unmodifiableList));
+        return listarPorStatus(StatusTarefa.CONCLUIDA);
+    }
+
+    // Visão somente leitura, sem cópia, que acompanha as alterações seguintes do gerenciador.
+    // A ordem é a de entrada no status. O iterador lê uma página por vez sob a trava e lança
+    // ConcurrentModificationException se o status ganhar ou perder tarefas no meio; para percorrer
+    // enquanto outras threads alteram, use instantaneo().
+    public List<Tarefa> listarPorStatus(StatusTarefa status) {
+        aguardarCarregamento();
+        return new VisaoTarefas(tarefasPorStatus.get(status));
+    }
+
+    /**
+     * Total de tarefas. Durante o início rápido, responde com a quantidade do cabeçalho sem esperar a carga.
+     */
+    public synchronized long contarTodas() {
+        return carregamento != null ? quantidadeAnunciada : tarefas.size();
+    }
+
+    public synchronized int contarPorStatus(StatusTarefa status) {
+        aguardarCarregamento();
+        return tarefasPorStatus.get(status).size();
+    }
+
+    /**
+     * Lista as tarefas com vencimento no intervalo fechado [inicio, fim], em ordem de vencimento.
+     * Um limite nulo deixa o intervalo aberto daquele lado; tarefas sem data não entram.
+     */
+    public synchronized List<Tarefa> listarPorVencimento(LocalDate inicio, LocalDate fim, StatusTarefa status) {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            List<Tarefa> resultado = new ArrayList<>();
+            vencimentosPorStatus.get(status).coletarEntre(inicio, fim, resultado);
+            return Collections.unmodifiableList(resultado);
+        } finally {
+            metricas.registrar(OperacaoMedida.LISTAR, medicao);
+        }
+    }
+
+    public synchronized List<Tarefa> listarPorVencimento(LocalDate inicio, LocalDate fim) {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            List<Tarefa> resultado = new ArrayList<>();
+            for (IndiceVencimento vencimentos : vencimentosPorStatus.values()) {
+                vencimentos.coletarEntre(inicio, fim, resultado);
+            }
+            // Cada status já vem ordenado; a ordenação só intercala as sequências.
+            resultado.sort(Comparator.comparing(Tarefa::getDataVencimento));
+            return Collections.unmodifiableList(resultado);
+        } finally {
+            metricas.registrar(OperacaoMedida.LISTAR, medicao);
+        }
+    }
+
+    /**
+     * Lista as tarefas pendentes com vencimento anterior a {@code hoje}, em ordem de vencimento.
+     */
+    public List<Tarefa> listarAtrasadas(LocalDate hoje) {
+        return listarPorVencimento(null, hoje.minusDays(1), StatusTarefa.PENDENTE);
+    }
+
+    public List<Tarefa> listarAtrasadas() {
+        return listarAtrasadas(LocalDate.now());
+    }
+
+    public synchronized List<Tarefa> listarSemVencimento(StatusTarefa status) {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            List<Tarefa> resultado = new ArrayList<>();
+            vencimentosPorStatus.get(status).coletarSemData(resultado);
+            return Collections.unmodifiableList(resultado);
+        } finally {
+            metricas.registrar(OperacaoMedida.LISTAR, medicao);
+        }
+    }
+
+    /**
+     * Busca tarefas que contenham todas as palavras da consulta no título ou na descrição,
+     * sem diferenciar maiúsculas nem acentos. A última palavra também casa como prefixo.
+     * @return As tarefas encontradas, em ordem de ID.
+     */
+    public synchronized List<Tarefa> buscarPorTexto(String consulta) {
+        long medicao = metricas.iniciar();
+        try {
+            aguardarCarregamento();
+            return Collections.unmodifiableList(indiceTexto.buscar(consulta, tarefas::get));
+        } finally {
+            metricas.registrar(OperacaoMedida.BUSCAR_POR_TEXTO, medicao);
+        }
     }
 
     public boolean atualizarTarefa(long id, String novoTitulo, String novaDescricao, LocalDate novaData) {
+        long medicao = metricas.iniciar();
+        try {
+            boolean atualizada = aplicarAtualizacao(id, novoTitulo, novaDescricao, novaData);
+            gravarPendentes();
+            return atualizada;
+        } finally {
+            metricas.registrar(OperacaoMedida.ATUALIZAR_TAREFA, medicao);
+        }
+    }
+
+    private synchronized boolean aplicarAtualizacao(long id, String novoTitulo, String novaDescricao, LocalDate novaData) {
+        aguardarId(id);
         Optional<Tarefa> tarefaOpt = buscarTarefaPorId(id);
         if (tarefaOpt.isPresent()) {
             Tarefa tarefa = tarefaOpt.get();
-            tarefa.setTitulo(novoTitulo);
-            tarefa.setDescricao(novaDescricao);
+            Tarefa antes = copiaParaEvento(tarefa);
+            indiceTexto.remover(tarefa);
+            try {
+                tarefa.setTitulo(novoTitulo);
+                tarefa.setDescricao(novaDescricao);
+                compartilharTextos(tarefa);
+            } finally {
+                indiceTexto.adicionar(tarefa);
+            }
+            IndiceVencimento vencimentos = vencimentosPorStatus.get(tarefa.getStatus());
+            vencimentos.remover(tarefa);
             tarefa.setDataVencimento(novaData);
-            salvarDados();
+            vencimentos.adicionar(tarefa);
+            registrarAlteracaoPendente(id);
+            persistirAlteracao(p -> p.registrarAtualizacao(tarefa));
+            depoisDeAlterar(TipoEvento.ATUALIZADA, antes, tarefa);
             return true;
         }
         return false;
     }
 
     public boolean marcarComoConcluida(long id) {
-        Optional<Tarefa> tarefaOpt = buscarTarefaPorId(id);
-        if (tarefaOpt.isPresent()) {
-            Tarefa tarefa = tarefaOpt.get();
+        return alterarStatus(id, StatusTarefa.CONCLUIDA);
+    }
+
+     public boolean marcarComoPendente(long id) {
+        return alterarStatus(id, StatusTarefa.PENDENTE);
+    }
+
+    private boolean alterarStatus(long id, StatusTarefa novoStatus) {
+        long medicao = metricas.iniciar();
+        try {
+            boolean encontrada = aplicarStatus(id, novoStatus);
+            gravarPendentes();
+            return encontrada;
+        } finally {
+            metricas.registrar(OperacaoMedida.ALTERAR_STATUS, medicao);
+        }
+    }
+
+    private synchronized boolean aplicarStatus(long id, StatusTarefa novoStatus) {
+        aguardarId(id);
+        Tarefa tarefa = tarefas.get(id);
+        if (tarefa == null) {
+            return false;
+        }
+        Tarefa antes = null;
+        boolean mudou = tarefa.getStatus() != novoStatus;
+        if (mudou) {
+            antes = copiaParaEvento(tarefa);
+            desindexar(tarefa);
+            if (novoStatus == StatusTarefa.CONCLUIDA) {
+                tarefa.marcarComoConcluida();
+            } else {
+                tarefa.marcarComoPendente();
+            }
+            indexar(tarefa);
+            registrarAlteracaoPendente(id);
+        }
+        persistirAlteracao(p -> p.registrarStatus(id, novoStatus));
+        if (mudou) {
+            depoisDeAlterar(TipoEvento.STATUS_ALTERADO, antes, tarefa);
+        }
+        return true;
+    }
+
+    /**
+     * Marca como concluídas as tarefas indicadas, gravando uma única vez.
+     * IDs inexistentes ou de tarefas já concluídas são ignorados.
+     * @return Quantidade de tarefas que mudaram de status.
+     */
+    public int marcarVariasComoConcluidas(Collection<Long> ids) {
+        long medicao = metricas.iniciar();
+        try {
+            int alteradas = concluirVarias(ids);
+            gravarPendentes();
+            return alteradas;
+        } finally {
+            metricas.registrar(OperacaoMedida.ALTERAR_STATUS, medicao);
+        }
+    }
+
+    private synchronized int concluirVarias(Collection<Long> ids) {
+        List<Long> alteradas = new ArrayList<>();
+        List<Tarefa> anteriores = new ArrayList<>();
+        for (long id : ids) {
+            aguardarId(id);
+            Tarefa tarefa = tarefas.get(id);
+            if (tarefa == null || tarefa.getStatus() == StatusTarefa.CONCLUIDA) {
+                continue;
+            }
+            anteriores.add(copiaParaEvento(tarefa));
+            desindexar(tarefa);
             tarefa.marcarComoConcluida();
-            salvarDados();
-            return true;
+            indexar(tarefa);
+            registrarAlteracaoPendente(id);
+            alteradas.add(id);
         }
-        return false;
+        if (!alteradas.isEmpty()) {
+            persistirAlteracao(p -> p.registrarStatusEmLote(alteradas, StatusTarefa.CONCLUIDA));
+        }
+        for (int i = 0; i < alteradas.size(); i++) {
+            depoisDeAlterar(TipoEvento.STATUS_ALTERADO, anteriores.get(i), tarefas.get(alteradas.get(i)));
+        }
+        return alteradas.size();
     }
 
-     public boolean marcarComoPendente(long id) {
-        Optional<Tarefa> tarefaOpt = buscarTarefaPorId(id);
-        if (tarefaOpt.isPresent()) {
-            Tarefa tarefa = tarefaOpt.get();
-            tarefa.marcarComoPendente();
-            salvarDados();
-            return true;
+    /**
+     * Exclui as tarefas indicadas, gravando uma única vez. IDs inexistentes são ignorados.
+     * @return Quantidade de tarefas excluídas.
+     */
+    public int excluirEmLote(Collection<Long> ids) {
+        long medicao = metricas.iniciar();
+        try {
+            int excluidas = removerEmLote(ids);
+            gravarPendentes();
+            return excluidas;
+        } finally {
+            metricas.registrar(OperacaoMedida.EXCLUIR_EM_LOTE, medicao);
         }
-        return false;
+    }
+
+    private synchronized int removerEmLote(Collection<Long> ids) {
+        List<Long> excluidas = new ArrayList<>();
+        List<Tarefa> removidas = new ArrayList<>();
+        for (long id : ids) {
+            aguardarId(id);
+            Tarefa removida = tarefas.remove(id);
+            if (removida != null) {
+                desindexar(removida);
+                indiceTexto.remover(removida);
+                excluidas.add(id);
+                removidas.add(removida);
+                registrarExclusaoPendente(id);
+            }
+        }
+        if (!excluidas.isEmpty()) {
+            persistirAlteracao(p -> p.registrarExclusaoEmLote(excluidas));
+        }
+        removidas.forEach(this::depoisDeExcluir);
+        return excluidas.size();
+    }
+
+    /**
+     * Exclui todas as tarefas que satisfazem o critério, gravando uma única vez.
+     * @return Quantidade de tarefas excluídas.
+     */
+    public int excluirEmLote(Predicate<Tarefa> criterio) {
+        long medicao = metricas.iniciar();
+        try {
+            int excluidas = removerSe(criterio);
+            gravarPendentes();
+            return excluidas;
+        } finally {
+            metricas.registrar(OperacaoMedida.EXCLUIR_EM_LOTE, medicao);
+        }
+    }
+
+    private synchronized int removerSe(Predicate<Tarefa> criterio) {
+        aguardarCarregamento();
+        List<Long> ids = new ArrayList<>();
+        for (Tarefa tarefa : tarefas) {
+            if (criterio.test(tarefa)) {
+                ids.add(tarefa.getId());
+            }
+        }
+        return removerEmLote(ids);
     }
 
     public boolean excluirTarefa(long id) {
-        boolean removido = tarefas.removeIf(t -> t.getId() == id);
-        if (removido) {
-            salvarDados();
+        long medicao = metricas.iniciar();
+        try {
+            boolean excluida = removerTarefa(id);
+            gravarPendentes();
+            return excluida;
+        } finally {
+            metricas.registrar(OperacaoMedida.EXCLUIR_TAREFA, medicao);
+        }
+    }
+
+    private synchronized boolean removerTarefa(long id) {
+        aguardarId(id);
+        Tarefa removida = tarefas.remove(id);
+        if (removida != null) {
+            desindexar(removida);
+            indiceTexto.remover(removida);
+            registrarExclusaoPendente(id);
+            persistirAlteracao(p -> p.registrarExclusao(id));
+            depoisDeExcluir(removida);
+        }
+        return removida != null;
+    }
+
+    private static boolean ordenadasPorId(List<Tarefa> lista) {
+        for (int i = 1; i < lista.size(); i++) {
+            if (lista.get(i - 1).getId() > lista.get(i).getId()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Só copia a tarefa se houver quem receba o evento.
+    private Tarefa copiaParaEvento(Tarefa tarefa) {
+        return eventos.temAssinantes() ? tarefa.congelada() : null;
+    }
+
+    private void depoisDeCriar(Tarefa criada) {
+        boolean comAssinantes = eventos.temAssinantes();
+        Tarefa versao = novaVersao(criada, comAssinantes);
+        if (comAssinantes) {
+            eventos.publicar(TipoEvento.CRIADA, null, versao);
+        }
+    }
+
+    // Sem a cópia anterior (não havia assinantes quando a operação começou) o evento é omitido.
+    private void depoisDeAlterar(TipoEvento tipo, Tarefa antes, Tarefa atual) {
+        Tarefa versao = novaVersao(atual, antes != null);
+        if (antes != null) {
+            eventos.publicar(tipo, antes, versao);
+        }
+    }
+
+    private void depoisDeExcluir(Tarefa removida) {
+        numeroVersao++;
+        if (versoes != null) {
+            versoes = versoes.semValor(removida.getId());
+        }
+        if (eventos.temAssinantes()) {
+            eventos.publicar(TipoEvento.EXCLUIDA, removida.congelada(), null);
+        }
+    }
+
+    // A mesma cópia congelada serve ao próximo instantâneo e ao evento; sem nenhum dos dois, nada é copiado.
+    private Tarefa novaVersao(Tarefa tarefa, boolean paraEvento) {
+        numeroVersao++;
+        if (versoes == null && !paraEvento) {
+            return null;
+        }
+        Tarefa congelada = tarefa.congelada();
+        if (versoes != null) {
+            versoes = versoes.comValor(tarefa.getId(), congelada);
+        }
+        return congelada;
+    }
+
+    private void compartilharTextos(Tarefa tarefa) {
+        if (tarefa.getTitulo() != null) {
+            tarefa.setTitulo(textos.canonico(tarefa.getTitulo()));
+        }
+        tarefa.setDescricao(textos.canonico(tarefa.getDescricao()));
+    }
+
+    private void indexar(Tarefa tarefa) {
+        tarefasPorStatus.get(tarefa.getStatus()).put(tarefa.getId(), tarefa);
+        vencimentosPorStatus.get(tarefa.getStatus()).adicionar(tarefa);
+    }
+
+    private void desindexar(Tarefa tarefa) {
+        tarefasPorStatus.get(tarefa.getStatus()).remove(tarefa.getId());
+        vencimentosPorStatus.get(tarefa.getStatus()).remover(tarefa);
+    }
+
+    // Backends incrementais recebem só a operação, na ordem da trava do gerenciador, e também
+    // compactam sob ela, mesmo com gravação adiada; nos demais, a lista inteira é gravada por
+    // gravarPendentes, fora da trava, ou agrupada pela gravação adiada.
+    private void persistirAlteracao(Consumer<PersistenciaIncremental> registro) {
+        if (!(persistencia instanceof PersistenciaIncremental)) {
+            if (gravacaoAdiada != null) {
+                gravacaoAdiada.registrarAlteracao();
+            } else {
+                versaoAlterada++;
+            }
+            return;
+        }
+        PersistenciaIncremental incremental = (PersistenciaIncremental) persistencia;
+        long medicao = metricas.iniciar();
+        try {
+            registro.accept(incremental);
+        } catch (PersistenciaException e) {
+            metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_REGISTRAR, e);
+            System.err.println("ERRO CRÍTICO: Falha ao registrar alteração! Tentando salvar tudo. " + e.getMessage());
+            gravarOuAvisar();
+            return;
+        } finally {
+            metricas.registrar(OperacaoMedida.PERSISTENCIA_REGISTRAR, medicao);
+        }
+        if (incremental.precisaCompactar()) {
+            gravarOuAvisar();
         }
-        return removido;
     }
 
     public void salvarDados() {
+        if (gravacaoAdiada != null && !(persistencia instanceof PersistenciaIncremental)) {
+            try {
+                gravacaoAdiada.flush();
+            } catch (PersistenciaException e) {
+                System.err.println("ERRO CRÍTICO: Falha ao salvar tarefas! " + e.getMessage());
+            }
+            return;
+        }
+        synchronized (this) {
+            if (persistencia instanceof PersistenciaIncremental) {
+                gravarOuAvisar();
+                return;
+            }
+            versaoAlterada++;
+        }
+        gravarPendentes();
+    }
+
+    private void gravarOuAvisar() {
         try {
-            persistencia.salvar(new ArrayList<>(tarefas));
+            gravarEstado();
         } catch (PersistenciaException e) {
             System.err.println("ERRO CRÍTICO: Falha ao salvar tarefas! " + e.getMessage());
         }
     }
+
+    // Chamado pelas operações depois de soltar a trava do gerenciador. Quem encontra uma gravação
+    // em andamento espera por ela e só grava de novo se ela não cobriu a sua alteração.
+    private void gravarPendentes() {
+        if (Thread.holdsLock(this)) {
+            // Quem segura a trava do gerenciador não pode esperar a gravação em andamento, que
+            // precisa dela para capturar o estado; a pendência fica para essa gravação.
+            gravacaoPendente = true;
+            if (travaGravacao.tryLock()) {
+                try {
+                    gravacaoPendente = false;
+                    gravarAte(versaoAlterada);
+                } finally {
+                    travaGravacao.unlock();
+                }
+            }
+            return;
+        }
+        long alvo;
+        synchronized (this) {
+            alvo = versaoAlterada;
+        }
+        travaGravacao.lock();
+        try {
+            gravarAte(alvo);
+        } finally {
+            travaGravacao.unlock();
+        }
+        while (gravacaoPendente && travaGravacao.tryLock()) {
+            try {
+                gravacaoPendente = false;
+                long pendente;
+                synchronized (this) {
+                    pendente = versaoAlterada;
+                }
+                gravarAte(pendente);
+            } finally {
+                travaGravacao.unlock();
+            }
+        }
+    }
+
+    // Com travaGravacao.
+    private void gravarAte(long alvo) {
+        if (versaoGravada >= alvo) {
+            return;
+        }
+        try {
+            versaoGravada = gravarEstado();
+        } catch (PersistenciaException e) {
+            System.err.println("ERRO CRÍTICO: Falha ao salvar tarefas! " + e.getMessage());
+        }
+    }
+
+    // Com PersistenciaDelta, grava só as tarefas marcadas como alteradas e as exclusões pendentes,
+    // e a lista inteira apenas quando a persistência pede a mesclagem; nas demais, a lista inteira.
+    // Retorna a versão capturada.
+    private long gravarEstado() throws PersistenciaException {
+        if (persistenciaDelta == null) {
+            List<Tarefa> snapshot;
+            long versao;
+            synchronized (this) {
+                snapshot = capturarSnapshot();
+                versao = versaoAlterada;
+            }
+            gravarSnapshot(snapshot);
+            return versao;
+        }
+        DeltaPendente delta = capturarDelta(persistenciaDelta.precisaMesclar());
+        long medicao = metricas.iniciar();
+        try {
+            persistenciaDelta.salvarDelta(delta.alteradas, delta.excluidas);
+        } catch (PersistenciaException e) {
+            metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_SALVAR_DELTA, e);
+            devolverDelta(delta);
+            throw e;
+        } finally {
+            metricas.registrar(OperacaoMedida.PERSISTENCIA_SALVAR_DELTA, medicao);
+        }
+        if (delta.snapshot != null) {
+            gravarSnapshot(delta.snapshot);
+        }
+        return delta.versao;
+    }
+
+    private void gravarSnapshot(List<Tarefa> snapshot) throws PersistenciaException {
+        long medicao = metricas.iniciar();
+        try {
+            persistencia.salvar(snapshot);
+        } catch (PersistenciaException e) {
+            metricas.registrarFalha(OperacaoMedida.PERSISTENCIA_SALVAR, e);
+            throw e;
+        } finally {
+            metricas.registrar(OperacaoMedida.PERSISTENCIA_SALVAR, medicao);
+        }
+    }
+
+    // O snapshot da mesclagem é capturado junto com o delta, para que o delta gravado logo antes
+    // dele não contenha nada que o snapshot não tenha.
+    private synchronized DeltaPendente capturarDelta(boolean comSnapshot) {
+        aguardarCarregamento();
+        // Só as tarefas marcadas pelas operações: o custo acompanha o tamanho do delta, não o da lista.
+        List<Tarefa> alteradas = new ArrayList<>(alteracoesPendentes.size());
+        for (long id : alteracoesPendentes) {
+            Tarefa tarefa = tarefas.get(id);
+            if (tarefa != null && tarefa.foiAlterada()) {
+                alteradas.add(tarefa.copiar());
+                tarefa.limparAlteracoes();
+            }
+        }
+        alteracoesPendentes = new LinkedHashSet<>();
+        List<Long> excluidas = exclusoesPendentes;
+        exclusoesPendentes = new ArrayList<>();
+        return new DeltaPendente(alteradas, excluidas, comSnapshot ? copiarTarefas() : null, versaoAlterada);
+    }
+
+    // A gravação falhou: as tarefas voltam a ser marcadas, por inteiro, para a próxima tentativa.
+    private synchronized void devolverDelta(DeltaPendente delta) {
+        for (Tarefa copia : delta.alteradas) {
+            Tarefa tarefa = tarefas.get(copia.getId());
+            if (tarefa != null) {
+                tarefa.marcarComoAlterada();
+                alteracoesPendentes.add(tarefa.getId());
+            }
+        }
+        exclusoesPendentes.addAll(delta.excluidas);
+    }
+
+    private void registrarAlteracaoPendente(long id) {
+        if (persistenciaDelta != null) {
+            alteracoesPendentes.add(id);
+        }
+    }
+
+    private void registrarExclusaoPendente(long id) {
+        if (persistenciaDelta != null) {
+            exclusoesPendentes.add(id);
+        }
+    }
+
+    /**
+     * Grava as alterações pendentes da gravação adiada. Sem gravação adiada, não há nada pendente.
+     * @throws PersistenciaException Se a gravação falhar.
+     */
+    public void flush() throws PersistenciaException {
+        if (gravacaoAdiada != null) {
+            gravacaoAdiada.flush();
+        }
+    }
+
+    /**
+     * Assina os eventos de criação, alteração e exclusão de tarefas, com buffer de
+     * {@link PublicadorEventos#CAPACIDADE_PADRAO} eventos que descarta os mais antigos se encher.
+     * @param consumidor Recebe os eventos em ordem, numa thread própria; um evento pode chegar antes
+     *        de a alteração ser gravada, como sempre acontece na gravação adiada.
+     */
+    public Assinatura assinarEventos(Consumer<EventoTarefa> consumidor) {
+        return eventos.assinar(consumidor);
+    }
+
+    /**
+     * Com {@link PoliticaContrapressao#BLOQUEAR}, as operações do gerenciador esperam enquanto o
+     * buffer deste assinante estiver cheio.
+     */
+    public Assinatura assinarEventos(Consumer<EventoTarefa> consumidor, int capacidade, PoliticaContrapressao politica) {
+        return eventos.assinar(consumidor, capacidade, politica);
+    }
+
+    /**
+     * Encerra a gravação adiada, gravando o que estiver pendente, e as assinaturas de eventos.
+     * @throws PersistenciaException Se a gravação final falhar.
+     */
+    @Override
+    public void close() throws PersistenciaException {
+        eventos.close();
+        if (gravacaoAdiada != null) {
+            gravacaoAdiada.close();
+        }
+    }
+
+    private synchronized List<Tarefa> capturarSnapshot() {
+        aguardarCarregamento();
+        return copiarTarefas();
+    }
+
+    // A lista é gravada fora da trava, enquanto outras threads alteram as tarefas: ela leva cópias
+    // congeladas, as do último instantâneo quando ele existe.
+    private List<Tarefa> copiarTarefas() {
+        List<Tarefa> copia = new ArrayList<>(tarefas.size());
+        if (versoes != null) {
+            for (Tarefa tarefa : versoes) {
+                copia.add(tarefa);
+            }
+        } else {
+            for (Tarefa tarefa : tarefas) {
+                copia.add(tarefa.congelada());
+            }
+        }
+        return copia;
+    }
+
+    private static final class DeltaPendente {
+        final List<Tarefa> alteradas;
+        final List<Long> excluidas;
+        // Só presente quando o delta precede uma mesclagem.
+        final List<Tarefa> snapshot;
+        final long versao;
+
+        DeltaPendente(List<Tarefa> alteradas, List<Long> excluidas, List<Tarefa> snapshot, long versao) {
+            this.alteradas = alteradas;
+            this.excluidas = excluidas;
+            this.snapshot = snapshot;
+            this.versao = versao;
+        }
+    }
+
+    // Não estática: o acesso por posição pode compactar o índice e por isso usa a trava do gerenciador.
+    // Sem RandomAccess, para que os algoritmos genéricos percorram pelo iterador, que não compacta.
+    private final class VisaoTarefas extends AbstractList<Tarefa> {
+        private final MapaLongo<Tarefa> origem;
+
+        VisaoTarefas(MapaLongo<Tarefa> origem) {
+            this.origem = origem;
+        }
+
+        @Override
+        public Tarefa get(int index) {
+            synchronized (GerenciadorTarefas.this) {
+                return origem.valorNaPosicao(index);
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (GerenciadorTarefas.this) {
+                return origem.size();
+            }
+        }
+
+        @Override
+        public Iterator<Tarefa> iterator() {
+            synchronized (GerenciadorTarefas.this) {
+                return new IteradorPaginado(origem.modificacoes());
+            }
+        }
+
+        private final class IteradorPaginado implements Iterator<Tarefa> {
+            private final int modificacoesEsperadas;
+            private final List<Tarefa> pagina = new ArrayList<>(TAMANHO_PAGINA_ITERACAO);
+            private int posicao;
+            private int proximaEntrada;
+
+            IteradorPaginado(int modificacoesEsperadas) {
+                this.modificacoesEsperadas = modificacoesEsperadas;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (posicao < pagina.size()) {
+                    return true;
+                }
+                synchronized (GerenciadorTarefas.this) {
+                    if (origem.modificacoes() != modificacoesEsperadas) {
+                        throw new ConcurrentModificationException();
+                    }
+                    pagina.clear();
+                    posicao = 0;
+                    proximaEntrada = origem.copiarValores(proximaEntrada, TAMANHO_PAGINA_ITERACAO, pagina);
+                }
+                return !pagina.isEmpty();
+            }
+
+            @Override
+            public Tarefa next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return pagina.get(posicao++);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Variante de {@link GerenciadorTarefas} segura para uso por várias threads.
+ * <p>
+ * Leituras não bloqueiam: as tarefas ficam num {@link ConcurrentSkipListMap} ordenado por ID
+ * e nunca são alteradas depois de publicadas — cada mutação grava uma cópia nova da tarefa.
+ * Escritas sobre o mesmo ID são serializadas por uma entre {@value #NUMERO_TRAVAS} travas, escolhida
+ * pelo hash do ID, de modo que IDs diferentes raramente disputam a mesma trava. A gravação roda fora
+ * dessas travas e é coalescida: se uma thread já está salvando, as demais só marcam a nova versão e
+ * essa thread volta a salvar antes de sair.
+ * <p>
+ * As tarefas retornadas são cópias congeladas ({@link Tarefa#congelada()}): os métodos que as
+ * alterariam lançam UnsupportedOperationException.
+ */
+public class GerenciadorTarefasConcorrente {
+
+    private static final int NUMERO_TRAVAS = 64;
+
+    private final ConcurrentSkipListMap<Long, Tarefa> tarefas;
+    private final Map<StatusTarefa, LongAdder> contagemPorStatus;
+    private final ReentrantLock[] travas;
+    private final AtomicLong proximoId;
+    private final PersistenciaTarefas persistencia;
+    private final ReentrantLock travaPersistencia = new ReentrantLock();
+    private final AtomicLong versaoAtual = new AtomicLong();
+    private final AtomicLong versaoPersistida = new AtomicLong();
+
+    public GerenciadorTarefasConcorrente(PersistenciaTarefas persistencia) {
+        this.persistencia = persistencia;
+        List<Tarefa> tarefasCarregadas;
+        try {
+             tarefasCarregadas = persistencia.carregar();
+             System.out.println(tarefasCarregadas.size() + " tarefas carregadas.");
+        } catch (PersistenciaException e) {
+             System.err.println("AVISO: Não foi possível carregar tarefas salvas. Iniciando com lista vazia. Erro: " + e.getMessage());
+             tarefasCarregadas = new ArrayList<>();
+        }
+        this.tarefas = new ConcurrentSkipListMap<>();
+        this.contagemPorStatus = new EnumMap<>(StatusTarefa.class);
+        for (StatusTarefa status : StatusTarefa.values()) {
+            contagemPorStatus.put(status, new LongAdder());
+        }
+        long maxId = 0L;
+        for (Tarefa tarefa : tarefasCarregadas) {
+            Tarefa copia = copiar(tarefa, tarefa.getStatus() != null ? tarefa.getStatus() : StatusTarefa.PENDENTE);
+            Tarefa anterior = tarefas.put(copia.getId(), copia);
+            if (anterior != null) {
+                System.err.println("AVISO: ID de tarefa duplicado nos dados salvos, mantendo a última ocorrência: " + copia.getId());
+                contagemPorStatus.get(anterior.getStatus()).decrement();
+            }
+            contagemPorStatus.get(copia.getStatus()).increment();
+            maxId = Math.max(maxId, copia.getId());
+        }
+        this.proximoId = new AtomicLong(maxId + 1);
+        this.travas = new ReentrantLock[NUMERO_TRAVAS];
+        for (int i = 0; i < NUMERO_TRAVAS; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    public Tarefa adicionarTarefa(String titulo, String descricao, LocalDate dataVencimento) {
+        if (titulo == null || titulo.trim().isEmpty()) {
+             throw new IllegalArgumentException("Título é obrigatório.");
+        }
+        long novoId = proximoId.getAndIncrement();
+        Tarefa novaTarefa = new Tarefa(novoId, titulo, descricao, dataVencimento, StatusTarefa.PENDENTE).congelada();
+        ReentrantLock trava = travaDoId(novoId);
+        trava.lock();
+        try {
+            tarefas.put(novoId, novaTarefa);
+            contagemPorStatus.get(StatusTarefa.PENDENTE).increment();
+        } finally {
+            trava.unlock();
+        }
+        versaoAtual.incrementAndGet();
+        salvarDados();
+        return novaTarefa;
+    }
+
+    public Optional<Tarefa> buscarTarefaPorId(long id) {
+        return Optional.ofNullable(tarefas.get(id));
+    }
+
+    public List<Tarefa> listarTodas() {
+        return Collections.unmodifiableList(new ArrayList<>(tarefas.values()));
+    }
+
+    public List<Tarefa> listarPendentes() {
+        return listarPorStatus(StatusTarefa.PENDENTE);
+    }
+
+    public List<Tarefa> listarConcluidas() {
+        return listarPorStatus(StatusTarefa.CONCLUIDA);
+    }
+
+    public List<Tarefa> listarPorStatus(StatusTarefa status) {
+        return tarefas.values().stream()
+                      .filter(t -> t.getStatus() == status)
+                      .collect(Collectors.collectingAndThen(
+                                Collectors.toList(),
+                                Collections::unmodifiableList));
+    }
+
+    public int contarPorStatus(StatusTarefa status) {
+        return contagemPorStatus.get(status).intValue();
+    }
+
+    public boolean atualizarTarefa(long id, String novoTitulo, String novaDescricao, LocalDate novaData) {
+        ReentrantLock trava = travaDoId(id);
+        trava.lock();
+        try {
+            Tarefa atual = tarefas.get(id);
+            if (atual == null) {
+                return false;
+            }
+            tarefas.put(id, new Tarefa(id, novoTitulo, novaDescricao, novaData, atual.getStatus()).congelada());
+        } finally {
+            trava.unlock();
+        }
+        versaoAtual.incrementAndGet();
+        salvarDados();
+        return true;
+    }
+
+    public boolean marcarComoConcluida(long id) {
+        return alterarStatus(id, StatusTarefa.CONCLUIDA);
+    }
+
+    public boolean marcarComoPendente(long id) {
+        return alterarStatus(id, StatusTarefa.PENDENTE);
+    }
+
+    private boolean alterarStatus(long id, StatusTarefa novoStatus) {
+        ReentrantLock trava = travaDoId(id);
+        trava.lock();
+        try {
+            Tarefa atual = tarefas.get(id);
+            if (atual == null) {
+                return false;
+            }
+            if (atual.getStatus() != novoStatus) {
+                tarefas.put(id, copiar(atual, novoStatus));
+                contagemPorStatus.get(atual.getStatus()).decrement();
+                contagemPorStatus.get(novoStatus).increment();
+            }
+        } finally {
+            trava.unlock();
+        }
+        versaoAtual.incrementAndGet();
+        salvarDados();
+        return true;
+    }
+
+    public boolean excluirTarefa(long id) {
+        ReentrantLock trava = travaDoId(id);
+        trava.lock();
+        try {
+            Tarefa removida = tarefas.remove(id);
+            if (removida == null) {
+                return false;
+            }
+            contagemPorStatus.get(removida.getStatus()).decrement();
+        } finally {
+            trava.unlock();
+        }
+        versaoAtual.incrementAndGet();
+        salvarDados();
+        return true;
+    }
+
+    /**
+     * Grava o estado atual se houver alterações ainda não persistidas.
+     * Retorna de imediato quando outra thread já está gravando; ela também gravará esta versão.
+     */
+    public void salvarDados() {
+        while (versaoAtual.get() != versaoPersistida.get()) {
+            if (!travaPersistencia.tryLock()) {
+                return;
+            }
+            try {
+                long versao = versaoAtual.get();
+                if (versao != versaoPersistida.get()) {
+                    persistencia.salvar(new ArrayList<>(tarefas.values()));
+                    versaoPersistida.set(versao);
+                }
+            } catch (PersistenciaException e) {
+                System.err.println("ERRO CRÍTICO: Falha ao salvar tarefas! " + e.getMessage());
+                return;
+            } finally {
+                travaPersistencia.unlock();
+            }
+        }
+    }
+
+    private ReentrantLock travaDoId(long id) {
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return travas[h >>> (32 - Integer.numberOfTrailingZeros(NUMERO_TRAVAS))];
+    }
+
+    private static Tarefa copiar(Tarefa tarefa, StatusTarefa status) {
+        return new Tarefa(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao(), tarefa.getDataVencimento(), status).congelada();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.persistence.PersistenciaException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gravação em segundo plano (write-behind): as alterações só marcam o estado como sujo e uma
+// thread grava o estado quando o lote enche ou quando a alteração mais antiga ainda não
+// gravada completa o intervalo máximo, o que limita o atraso de qualquer alteração a esse intervalo
+// mais o tempo de uma gravação.
+class GravacaoAdiada implements AutoCloseable {
+
+    private final Runnable gravacao;
+    private final long intervaloMaximoNanos;
+    private final int tamanhoLote;
+    private final ReentrantLock trava = new ReentrantLock();
+    private final Condition alterado = trava.newCondition();
+    private final Object travaGravacao = new Object();
+    private final Thread gravador;
+
+    // Protegidos por trava.
+    private long versaoAtual;
+    private long versaoGravada;
+    private long inicioPendencia;
+    private boolean encerrado;
+
+    // A gravação captura o estado atual e o grava, lançando PersistenciaException se falhar.
+    GravacaoAdiada(Runnable gravacao, Duration intervaloMaximo, int tamanhoLote) {
+        if (intervaloMaximo.isNegative() || intervaloMaximo.isZero()) {
+            throw new IllegalArgumentException("Intervalo máximo de gravação deve ser positivo.");
+        }
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo.");
+        }
+        this.gravacao = gravacao;
+        this.intervaloMaximoNanos = intervaloMaximo.toNanos();
+        this.tamanhoLote = tamanhoLote;
+        this.gravador = new Thread(this::executar, "gravacao-adiada-tarefas");
+        this.gravador.setDaemon(true);
+        this.gravador.start();
+    }
+
+    void registrarAlteracao() {
+        trava.lock();
+        try {
+            if (versaoAtual == versaoGravada) {
+                inicioPendencia = System.nanoTime();
+            }
+            versaoAtual++;
+            if (versaoAtual - versaoGravada >= tamanhoLote || versaoAtual - versaoGravada == 1) {
+                alterado.signal();
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Grava imediatamente, na thread chamadora, as alterações ainda pendentes.
+     */
+    void flush() {
+        synchronized (travaGravacao) {
+            long versao;
+            trava.lock();
+            try {
+                if (versaoAtual == versaoGravada) {
+                    return;
+                }
+                versao = versaoAtual;
+            } finally {
+                trava.unlock();
+            }
+            long inicioGravacao = System.nanoTime();
+            // O estado gravado pode incluir alterações posteriores a "versao"; no pior caso elas são
+            // gravadas de novo no próximo ciclo.
+            try {
+                gravacao.run();
+            } catch (PersistenciaException e) {
+                trava.lock();
+                try {
+                    inicioPendencia = System.nanoTime();
+                } finally {
+                    trava.unlock();
+                }
+                throw e;
+            }
+            trava.lock();
+            try {
+                versaoGravada = versao;
+                if (versaoAtual != versaoGravada) {
+                    inicioPendencia = inicioGravacao;
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        trava.lock();
+        try {
+            if (encerrado) {
+                return;
+            }
+            encerrado = true;
+            alterado.signal();
+        } finally {
+            trava.unlock();
+        }
+        try {
+            gravador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void executar() {
+        while (aguardarGravacao()) {
+            try {
+                flush();
+            } catch (PersistenciaException e) {
+                System.err.println("ERRO CRÍTICO: Falha ao salvar tarefas em segundo plano! " + e.getMessage());
+            }
+        }
+    }
+
+    // Bloqueia até haver um lote cheio ou uma alteração vencida; retorna false no encerramento.
+    private boolean aguardarGravacao() {
+        trava.lock();
+        try {
+            while (!encerrado) {
+                long pendentes = versaoAtual - versaoGravada;
+                if (pendentes == 0) {
+                    alterado.await();
+                    continue;
+                }
+                long restante = intervaloMaximoNanos - (System.nanoTime() - inicioPendencia);
+                if (pendentes >= tamanhoLote || restante <= 0) {
+                    return true;
+                }
+                alterado.await(restante, TimeUnit.NANOSECONDS);
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            trava.unlock();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,240 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongFunction;
+import java.util.regex.Pattern;
+
+// Índice invertido de termos de título e descrição. Os termos são normalizados sem acentos e em
+// minúsculas, e cada um aponta para a lista ordenada dos IDs das tarefas que o contêm.
+// Não é thread-safe; o gerenciador sincroniza.
+class IndiceTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    // TreeMap para que uma busca por prefixo seja uma faixa contígua de termos.
+    private final NavigableMap<String, ListaIds> termos = new TreeMap<>();
+
+    void adicionar(Tarefa tarefa) {
+        for (String termo : termosDaTarefa(tarefa)) {
+            termos.computeIfAbsent(termo, t -> new ListaIds()).adicionar(tarefa.getId());
+        }
+    }
+
+    // Deve ser chamado antes de alterar título ou descrição, pois localiza os termos pelo texto atual.
+    void remover(Tarefa tarefa) {
+        for (String termo : termosDaTarefa(tarefa)) {
+            ListaIds ids = termos.get(termo);
+            if (ids != null && ids.remover(tarefa.getId()) && ids.tamanho == 0) {
+                termos.remove(termo);
+            }
+        }
+    }
+
+    /**
+     * Tarefas que contêm todos os termos da consulta; o último termo também casa como prefixo,
+     * o que permite buscar enquanto se digita.
+     */
+    List<Tarefa> buscar(String consulta, LongFunction<Tarefa> tarefaPorId) {
+        List<String> consultados = normalizar(consulta);
+        List<Tarefa> resultado = new ArrayList<>();
+        if (consultados.isEmpty()) {
+            return resultado;
+        }
+        String prefixo = consultados.get(consultados.size() - 1);
+        List<String> exatos = consultados.subList(0, consultados.size() - 1);
+
+        ListaIds[] listas = new ListaIds[exatos.size()];
+        for (int i = 0; i < listas.length; i++) {
+            listas[i] = termos.get(exatos.get(i));
+            if (listas[i] == null) {
+                return resultado;
+            }
+        }
+        Arrays.sort(listas, (a, b) -> Integer.compare(a.tamanho, b.tamanho));
+        Collection<ListaIds> faixa = faixaDoPrefixo(prefixo);
+        long totalFaixa = 0;
+        for (ListaIds ids : faixa) {
+            totalFaixa += ids.tamanho;
+        }
+
+        // Percorre o conjunto menor e confere os demais termos por busca binária.
+        if (listas.length == 0 || totalFaixa <= listas[0].tamanho) {
+            for (long id : unir(faixa, (int) totalFaixa)) {
+                if (contidoEmTodas(listas, 0, id)) {
+                    resultado.add(tarefaPorId.apply(id));
+                }
+            }
+            return resultado;
+        }
+        ListaIds menor = listas[0];
+        for (int i = 0; i < menor.tamanho; i++) {
+            long id = menor.get(i);
+            if (!contidoEmTodas(listas, 1, id)) {
+                continue;
+            }
+            Tarefa tarefa = tarefaPorId.apply(id);
+            // A faixa do prefixo é maior que os candidatos; conferir no próprio texto sai mais barato.
+            if (contemPrefixo(tarefa, prefixo)) {
+                resultado.add(tarefa);
+            }
+        }
+        return resultado;
+    }
+
+    private static boolean contidoEmTodas(ListaIds[] listas, int inicio, long id) {
+        for (int j = inicio; j < listas.length; j++) {
+            if (!listas[j].contem(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Collection<ListaIds> faixaDoPrefixo(String prefixo) {
+        return termos.subMap(prefixo, true, prefixo + Character.MAX_VALUE, false).values();
+    }
+
+    private static long[] unir(Collection<ListaIds> faixa, int total) {
+        if (faixa.size() == 1) {
+            ListaIds unica = faixa.iterator().next();
+            long[] copia = new long[unica.tamanho];
+            unica.copiarPara(copia, 0);
+            return copia;
+        }
+        long[] unidos = new long[total];
+        int n = 0;
+        for (ListaIds ids : faixa) {
+            ids.copiarPara(unidos, n);
+            n += ids.tamanho;
+        }
+        Arrays.sort(unidos);
+        int distintos = 0;
+        for (int i = 0; i < n; i++) {
+            if (distintos == 0 || unidos[distintos - 1] != unidos[i]) {
+                unidos[distintos++] = unidos[i];
+            }
+        }
+        return Arrays.copyOf(unidos, distintos);
+    }
+
+    private static boolean contemPrefixo(Tarefa tarefa, String prefixo) {
+        for (String termo : termosDaTarefa(tarefa)) {
+            if (termo.startsWith(prefixo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> termosDaTarefa(Tarefa tarefa) {
+        Set<String> resultado = new LinkedHashSet<>(normalizar(tarefa.getTitulo()));
+        resultado.addAll(normalizar(tarefa.getDescricao()));
+        return resultado;
+    }
+
+    static List<String> normalizar(String texto) {
+        List<String> resultado = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return resultado;
+        }
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        for (String termo : SEPARADORES.split(semAcentos.toLowerCase(Locale.ROOT))) {
+            if (!termo.isEmpty()) {
+                resultado.add(termo);
+            }
+        }
+        return resultado;
+    }
+
+    // Lista ordenada de IDs. Como os IDs novos são sempre maiores, a inclusão normal é um append.
+    // A maioria dos termos (números, nomes próprios) aparece em uma só tarefa; enquanto a lista tem
+    // um único ID ele fica em unico, sem array.
+    private static final class ListaIds {
+        private long unico;
+        private long[] ids;
+        private int tamanho;
+
+        long get(int posicao) {
+            return ids != null ? ids[posicao] : unico;
+        }
+
+        void copiarPara(long[] destino, int posicao) {
+            if (ids != null) {
+                System.arraycopy(ids, 0, destino, posicao, tamanho);
+            } else if (tamanho == 1) {
+                destino[posicao] = unico;
+            }
+        }
+
+        void adicionar(long id) {
+            if (ids == null) {
+                if (tamanho == 0) {
+                    unico = id;
+                    tamanho = 1;
+                    return;
+                }
+                if (unico == id) {
+                    return;
+                }
+                ids = new long[2];
+                ids[0] = unico;
+            }
+            if (ids[tamanho - 1] < id) {
+                garantirEspaco();
+                ids[tamanho++] = id;
+                return;
+            }
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+            posicao = -posicao - 1;
+            garantirEspaco();
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            ids[posicao] = id;
+            tamanho++;
+        }
+
+        boolean remover(long id) {
+            if (ids == null) {
+                if (tamanho == 1 && unico == id) {
+                    tamanho = 0;
+                    return true;
+                }
+                return false;
+            }
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+        boolean contem(long id) {
+            if (ids == null) {
+                return tamanho == 1 && unico == id;
+            }
+            return Arrays.binarySearch(ids, 0, tamanho, id) >= 0;
+        }
+
+        private void garantirEspaco() {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.util.MapaLongo;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Índice ordenado por data de vencimento (dia epoch), com um grupo separado para tarefas sem data.
+// Dentro de um mesmo dia a ordem é a de entrada no índice. Não é thread-safe; o gerenciador sincroniza.
+class IndiceVencimento {
+
+    private final NavigableMap<Long, MapaLongo<Tarefa>> porDia = new TreeMap<>();
+    private final MapaLongo<Tarefa> semData = new MapaLongo<>();
+
+    void adicionar(Tarefa tarefa) {
+        LocalDate data = tarefa.getDataVencimento();
+        if (data == null) {
+            semData.put(tarefa.getId(), tarefa);
+        } else {
+            porDia.computeIfAbsent(data.toEpochDay(), dia -> new MapaLongo<>()).put(tarefa.getId(), tarefa);
+        }
+    }
+
+    // Deve ser chamado antes de alterar a data da tarefa, pois a localiza pela data atual.
+    void remover(Tarefa tarefa) {
+        LocalDate data = tarefa.getDataVencimento();
+        if (data == null) {
+            semData.remove(tarefa.getId());
+            return;
+        }
+        long dia = data.toEpochDay();
+        MapaLongo<Tarefa> grupo = porDia.get(dia);
+        if (grupo != null) {
+            grupo.remove(tarefa.getId());
+            if (grupo.isEmpty()) {
+                porDia.remove(dia);
+            }
+        }
+    }
+
+    // Intervalo fechado [inicio, fim]; um limite nulo deixa o intervalo aberto daquele lado.
+    void coletarEntre(LocalDate inicio, LocalDate fim, List<Tarefa> destino) {
+        NavigableMap<Long, MapaLongo<Tarefa>> faixa = porDia;
+        if (inicio != null) {
+            faixa = faixa.tailMap(inicio.toEpochDay(), true);
+        }
+        if (fim != null) {
+            faixa = faixa.headMap(fim.toEpochDay(), true);
+        }
+        for (Map.Entry<Long, MapaLongo<Tarefa>> grupo : faixa.entrySet()) {
+            for (Tarefa tarefa : grupo.getValue()) {
+                destino.add(tarefa);
+            }
+        }
+    }
+
+    void coletarSemData(List<Tarefa> destino) {
+        for (Tarefa tarefa : semData) {
+            destino.add(tarefa);
+        }
+    }
+}
\ No newline at end of file
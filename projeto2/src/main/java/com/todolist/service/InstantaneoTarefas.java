@@ -0,0 +1,86 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.util.MapaLongoPersistente;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Visão imutável de todas as tarefas num ponto do tempo, obtida com
+ * {@link GerenciadorTarefas#instantaneo()}. As tarefas são cópias congeladas
+ * ({@link Tarefa#congelada()}) e as alterações feitas depois no gerenciador não aparecem aqui,
+ * então um relatório que percorre o instantâneo vê um estado consistente. Pode ser lido de
+ * qualquer thread, sem travas, enquanto o gerenciador continua recebendo alterações.
+ */
+public final class InstantaneoTarefas implements Iterable<Tarefa> {
+
+    private final MapaLongoPersistente<Tarefa> tarefas;
+    private final long versao;
+    private final Instant instante;
+
+    InstantaneoTarefas(MapaLongoPersistente<Tarefa> tarefas, long versao, Instant instante) {
+        this.tarefas = tarefas;
+        this.versao = versao;
+        this.instante = instante;
+    }
+
+    /**
+     * @return Quantidade de alterações feitas pelo gerenciador até este instantâneo; dois
+     *         instantâneos com a mesma versão têm as mesmas tarefas.
+     */
+    public long getVersao() {
+        return versao;
+    }
+
+    public Instant getInstante() {
+        return instante;
+    }
+
+    public int contar() {
+        return tarefas.size();
+    }
+
+    public Optional<Tarefa> buscarPorId(long id) {
+        return Optional.ofNullable(tarefas.get(id));
+    }
+
+    /**
+     * Percorre as tarefas em ordem de ID.
+     */
+    @Override
+    public Iterator<Tarefa> iterator() {
+        return tarefas.iterator();
+    }
+
+    public Stream<Tarefa> stream() {
+        return tarefas.stream();
+    }
+
+    /**
+     * Lista uma página em ordem de ID, como {@link GerenciadorTarefas#listarPagina(long, int)},
+     * mas com as tarefas deste instantâneo.
+     */
+    public PaginaTarefas listarPagina(long cursor, int tamanhoPagina) {
+        if (tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser positivo.");
+        }
+        List<Tarefa> pagina = tarefas.valoresApos(cursor, tamanhoPagina + 1);
+        boolean temMais = pagina.size() > tamanhoPagina;
+        if (temMais) {
+            pagina.remove(tamanhoPagina);
+        }
+        long proximoCursor = pagina.isEmpty() ? cursor : pagina.get(pagina.size() - 1).getId();
+        return new PaginaTarefas(Collections.unmodifiableList(pagina), proximoCursor, temMais);
+    }
+
+    public List<Tarefa> listarPorStatus(StatusTarefa status) {
+        return tarefas.stream().filter(tarefa -> tarefa.getStatus() == status).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package main.java.com.todolist.service;
+
+import main.java.com.todolist.domain.Tarefa;
+
+import java.util.List;
+
+/**
+ * Uma página da listagem de tarefas em ordem de ID. O cursor é o ID da última tarefa da página:
+ * a próxima página começa depois dele, então inclusões e exclusões entre uma chamada e outra
+ * não fazem tarefas se repetirem nem serem puladas.
+ */
+public final class PaginaTarefas {
+
+    /** Cursor que indica o início da listagem. */
+    public static final long INICIO = 0L;
+
+    private final List<Tarefa> tarefas;
+    private final long proximoCursor;
+    private final boolean temMais;
+
+    PaginaTarefas(List<Tarefa> tarefas, long proximoCursor, boolean temMais) {
+        this.tarefas = tarefas;
+        this.proximoCursor = proximoCursor;
+        this.temMais = temMais;
+    }
+
+    public List<Tarefa> getTarefas() {
+        return tarefas;
+    }
+
+    public long getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public boolean temMais() {
+        return temMais;
+    }
+}
\ No newline at end of file
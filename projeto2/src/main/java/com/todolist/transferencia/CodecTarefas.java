@@ -0,0 +1,194 @@
+package main.java.com.todolist.transferencia;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Converte entre os registros de um formato e tarefas. Não guarda estado entre chamadas e pode ser
+ * usado por vários trabalhadores ao mesmo tempo.
+ */
+final class CodecTarefas {
+
+    static final String[] COLUNAS_CSV = {"id", "titulo", "descricao", "dataVencimento", "status"};
+
+    private final FormatoTransferencia formato;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritorTarefa;
+    // Posição de cada coluna de COLUNAS_CSV no cabeçalho lido, ou -1 se ausente.
+    private final int[] posicoesCsv;
+
+    CodecTarefas(FormatoTransferencia formato, String[] colunasLidas, ObjectMapper objectMapper) {
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+        this.escritorTarefa = objectMapper.writerFor(Tarefa.class);
+        this.posicoesCsv = colunasLidas != null ? posicoes(colunasLidas) : null;
+    }
+
+    /**
+     * Valida o registro com as mesmas regras de {@link Tarefa} (título obrigatório) e exige um ID
+     * positivo; sem status, a tarefa fica pendente.
+     * @throws IllegalArgumentException Se o registro não for uma tarefa válida.
+     */
+    Tarefa decodificar(Object registro) throws JsonProcessingException {
+        switch (formato) {
+            case JSON:
+                return deJson((JsonNode) registro);
+            case NDJSON:
+                return deJson(objectMapper.readTree((String) registro));
+            default:
+                return deCsv((String) registro);
+        }
+    }
+
+    /**
+     * Acrescenta a tarefa codificada, sem separador nem quebra de linha.
+     */
+    void codificar(Tarefa tarefa, StringBuilder saida) throws JsonProcessingException {
+        if (formato == FormatoTransferencia.CSV) {
+            saida.append(tarefa.getId()).append(',');
+            anexarCsv(saida, tarefa.getTitulo());
+            saida.append(',');
+            anexarCsv(saida, tarefa.getDescricao());
+            saida.append(',');
+            if (tarefa.getDataVencimento() != null) {
+                saida.append(tarefa.getDataVencimento());
+            }
+            saida.append(',');
+            if (tarefa.getStatus() != null) {
+                saida.append(tarefa.getStatus().name());
+            }
+        } else {
+            saida.append(escritorTarefa.writeValueAsString(tarefa));
+        }
+    }
+
+    private static Tarefa deJson(JsonNode registro) {
+        if (!registro.isObject()) {
+            throw new IllegalArgumentException("Era esperado um objeto JSON.");
+        }
+        JsonNode id = registro.get("id");
+        if (id == null || !id.canConvertToLong()) {
+            throw new IllegalArgumentException("ID ausente ou inválido.");
+        }
+        return criar(id.asLong(), texto(registro, "titulo"), texto(registro, "descricao"),
+                texto(registro, "dataVencimento"), texto(registro, "status"));
+    }
+
+    private Tarefa deCsv(String registro) {
+        String[] campos = separarCsv(registro);
+        String id = campo(campos, 0);
+        if (id == null) {
+            throw new IllegalArgumentException("ID ausente.");
+        }
+        long valorId;
+        try {
+            valorId = Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("ID inválido: " + id);
+        }
+        return criar(valorId, campo(campos, 1), campo(campos, 2), campo(campos, 3), campo(campos, 4));
+    }
+
+    private static Tarefa criar(long id, String titulo, String descricao, String data, String status) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("ID deve ser positivo: " + id);
+        }
+        LocalDate vencimento = data != null && !data.isEmpty() ? LocalDate.parse(data.trim()) : null;
+        StatusTarefa valorStatus = status != null && !status.isEmpty()
+                ? StatusTarefa.valueOf(status.trim().toUpperCase(Locale.ROOT))
+                : StatusTarefa.PENDENTE;
+        return new Tarefa(id, titulo, descricao, vencimento, valorStatus);
+    }
+
+    private static String texto(JsonNode registro, String campo) {
+        JsonNode valor = registro.get(campo);
+        return valor == null || valor.isNull() ? null : valor.asText();
+    }
+
+    // Campo vazio vira null, como uma descrição ausente no JSON.
+    private String campo(String[] campos, int coluna) {
+        int posicao = posicoesCsv[coluna];
+        if (posicao < 0 || posicao >= campos.length || campos[posicao].isEmpty()) {
+            return null;
+        }
+        return campos[posicao];
+    }
+
+    private static int[] posicoes(String[] colunasLidas) {
+        int[] posicoes = new int[COLUNAS_CSV.length];
+        for (int coluna = 0; coluna < COLUNAS_CSV.length; coluna++) {
+            posicoes[coluna] = -1;
+            for (int i = 0; i < colunasLidas.length; i++) {
+                if (COLUNAS_CSV[coluna].equalsIgnoreCase(colunasLidas[i].trim())) {
+                    posicoes[coluna] = i;
+                    break;
+                }
+            }
+        }
+        if (posicoes[0] < 0 || posicoes[1] < 0) {
+            throw new IllegalArgumentException("O cabeçalho do CSV precisa das colunas id e titulo.");
+        }
+        return posicoes;
+    }
+
+    static String[] separarCsv(String registro) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < registro.length(); i++) {
+            char c = registro.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    campo.append(c);
+                } else if (i + 1 < registro.length() && registro.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c != '\r') {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos.toArray(new String[0]);
+    }
+
+    private static void anexarCsv(StringBuilder saida, String valor) {
+        if (valor == null) {
+            return;
+        }
+        boolean precisaAspas = valor.isEmpty();
+        for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+            char c = valor.charAt(i);
+            precisaAspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!precisaAspas) {
+            saida.append(valor);
+            return;
+        }
+        saida.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                saida.append('"');
+            }
+            saida.append(c);
+        }
+        saida.append('"');
+    }
+}
\ No newline at end of file
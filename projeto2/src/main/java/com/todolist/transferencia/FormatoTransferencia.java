@@ -0,0 +1,35 @@
+package main.java.com.todolist.transferencia;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo aceitos na importação e exportação de tarefas.
+ */
+public enum FormatoTransferencia {
+    /** Lista JSON, no mesmo formato do tarefas.json de PersistenciaJson. */
+    JSON,
+    /** Um objeto JSON por linha. */
+    NDJSON,
+    /** Cabeçalho id,titulo,descricao,dataVencimento,status e uma tarefa por linha (RFC 4180). */
+    CSV;
+
+    /**
+     * @return O formato indicado pela extensão do arquivo: .json, .ndjson (ou .jsonl) e .csv.
+     * @throws IllegalArgumentException Se a extensão não for reconhecida.
+     */
+    public static FormatoTransferencia doArquivo(Path arquivo) {
+        String nome = arquivo.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".json")) {
+            return JSON;
+        }
+        if (nome.endsWith(".ndjson") || nome.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (nome.endsWith(".csv")) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("Formato não reconhecido pela extensão: " + arquivo.getFileName()
+                + ". Use .json, .ndjson ou .csv.");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package main.java.com.todolist.transferencia;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Primeiro estágio da transferência: separa o arquivo de origem em registros brutos, um por
+ * tarefa, sem decodificá-los. Nos formatos de linha o registro é o texto da linha e a
+ * decodificação fica com os trabalhadores; no JSON o parser precisa percorrer o objeto para achar
+ * o fim dele, então o registro já sai como árvore.
+ */
+abstract class LeitorRegistros implements Closeable {
+
+    /**
+     * @return O próximo registro, ou null no fim do arquivo.
+     */
+    abstract Object proximo() throws IOException;
+
+    /**
+     * @return Os nomes das colunas do cabeçalho, só no CSV; null nos demais formatos.
+     */
+    String[] colunas() {
+        return null;
+    }
+
+    static LeitorRegistros abrir(Path arquivo, FormatoTransferencia formato, ObjectMapper objectMapper) throws IOException {
+        switch (formato) {
+            case JSON:
+                return new Json(objectMapper.getFactory().createParser(arquivo.toFile()), arquivo);
+            case NDJSON:
+                return new Linhas(Files.newBufferedReader(arquivo, StandardCharsets.UTF_8), false);
+            case CSV:
+                return new Linhas(Files.newBufferedReader(arquivo, StandardCharsets.UTF_8), true);
+            default:
+                throw new IllegalArgumentException("Formato sem leitor: " + formato);
+        }
+    }
+
+    private static final class Json extends LeitorRegistros {
+        private final JsonParser parser;
+        private final Path arquivo;
+        private boolean iniciado;
+        private boolean terminado;
+
+        Json(JsonParser parser, Path arquivo) {
+            this.parser = parser;
+            this.arquivo = arquivo;
+        }
+
+        @Override
+        Object proximo() throws IOException {
+            if (terminado) {
+                return null;
+            }
+            if (!iniciado) {
+                iniciado = true;
+                JsonToken inicio = parser.nextToken();
+                if (inicio == null || inicio == JsonToken.VALUE_NULL) {
+                    terminado = true;
+                    return null;
+                }
+                if (inicio != JsonToken.START_ARRAY) {
+                    throw new IOException("Era esperada uma lista de tarefas: " + arquivo);
+                }
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                terminado = true;
+                return null;
+            }
+            if (token == null) {
+                throw new IOException("Lista de tarefas incompleta: " + arquivo + ". O arquivo pode estar corrompido.");
+            }
+            return parser.readValueAsTree();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    // Uma linha por registro; no CSV, um campo entre aspas pode conter quebras de linha, então a
+    // linha é estendida até as aspas fecharem.
+    private static final class Linhas extends LeitorRegistros {
+        private final BufferedReader leitor;
+        private final boolean csv;
+        private final String[] colunas;
+
+        Linhas(BufferedReader leitor, boolean csv) throws IOException {
+            this.leitor = leitor;
+            this.csv = csv;
+            if (csv) {
+                String cabecalho = lerRegistro();
+                if (cabecalho == null) {
+                    this.colunas = new String[0];
+                } else {
+                    this.colunas = CodecTarefas.separarCsv(cabecalho.startsWith("\uFEFF") ? cabecalho.substring(1) : cabecalho);
+                }
+            } else {
+                this.colunas = null;
+            }
+        }
+
+        @Override
+        Object proximo() throws IOException {
+            String registro = lerRegistro();
+            while (registro != null && registro.isEmpty()) {
+                registro = lerRegistro();
+            }
+            return registro;
+        }
+
+        @Override
+        String[] colunas() {
+            return colunas;
+        }
+
+        private String lerRegistro() throws IOException {
+            String linha = leitor.readLine();
+            if (!csv || linha == null) {
+                return linha;
+            }
+            int aspas = contarAspas(linha);
+            if (aspas % 2 == 0) {
+                return linha;
+            }
+            StringBuilder registro = new StringBuilder(linha);
+            while (aspas % 2 != 0) {
+                String continuacao = leitor.readLine();
+                if (continuacao == null) {
+                    throw new IOException("Campo entre aspas não fechado no fim do arquivo CSV.");
+                }
+                registro.append('\n').append(continuacao);
+                aspas += contarAspas(continuacao);
+            }
+            return registro.toString();
+        }
+
+        // Aspas escapadas ("") somam duas, então a paridade indica se há um campo aberto.
+        private static int contarAspas(String linha) {
+            int aspas = 0;
+            for (int i = linha.indexOf('"'); i >= 0; i = linha.indexOf('"', i + 1)) {
+                aspas++;
+            }
+            return aspas;
+        }
+
+        @Override
+        public void close() throws IOException {
+            leitor.close();
+        }
+    }
+}
\ No newline at end of file
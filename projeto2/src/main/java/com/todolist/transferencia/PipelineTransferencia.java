@@ -0,0 +1,320 @@
+package main.java.com.todolist.transferencia;
+
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copia tarefas de um arquivo para outro, convertendo entre JSON, NDJSON e CSV, sem carregar a
+ * lista inteira. Três estágios: uma thread lê a origem e separa os registros em lotes; os
+ * trabalhadores, um por núcleo, decodificam, validam, transformam e codificam cada lote; a thread
+ * que chamou {@link #transferir} grava os lotes prontos no destino, na ordem da origem.
+ * <p>
+ * Entre a leitura e a gravação há uma fila limitada a dois lotes por trabalhador: quando a
+ * gravação atrasa, a leitura espera. A memória usada depende do tamanho do lote e da quantidade
+ * de trabalhadores, não do tamanho do arquivo. O destino é gravado num arquivo temporário e só
+ * substitui o anterior se a transferência terminar sem erro.
+ */
+public class PipelineTransferencia {
+
+    public static final int TAMANHO_LOTE_PADRAO = 2_000;
+    static final long INTERVALO_PROGRESSO_NANOS = 1_000_000_000L;
+    private static final int LIMITE_AVISOS = 10;
+    private static final int TAMANHO_BUFFER = 256 * 1024;
+
+    private final int trabalhadores;
+    private final int tamanhoLote;
+    private final boolean estrito;
+    private final ObjectMapper objectMapper;
+
+    public PipelineTransferencia() {
+        this(Runtime.getRuntime().availableProcessors(), TAMANHO_LOTE_PADRAO, false);
+    }
+
+    /**
+     * @param estrito Se true, o primeiro registro inválido interrompe a transferência; se false,
+     *                ele é contado como rejeitado e os demais seguem.
+     */
+    public PipelineTransferencia(int trabalhadores, int tamanhoLote, boolean estrito) {
+        if (trabalhadores <= 0 || tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Trabalhadores e tamanho do lote devem ser positivos.");
+        }
+        this.trabalhadores = trabalhadores;
+        this.tamanhoLote = tamanhoLote;
+        this.estrito = estrito;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public ResultadoTransferencia transferir(Path origem, Path destino) throws PersistenciaException {
+        return transferir(origem, destino, UnaryOperator.identity(), parcial -> { });
+    }
+
+    /**
+     * Os formatos são deduzidos das extensões ({@link FormatoTransferencia#doArquivo}).
+     * @param transformacao Aplicada a cada tarefa válida, por vários trabalhadores ao mesmo tempo;
+     *                      devolver null descarta a tarefa.
+     * @param progresso Recebe as contagens parciais cerca de uma vez por segundo, na thread que chamou.
+     * @throws PersistenciaException Se a origem não puder ser lida, o destino não puder ser gravado ou,
+     *                               no modo estrito, se houver um registro inválido.
+     */
+    public ResultadoTransferencia transferir(Path origem, Path destino, UnaryOperator<Tarefa> transformacao,
+                                             Consumer<ResultadoTransferencia> progresso) throws PersistenciaException {
+        FormatoTransferencia formatoOrigem = FormatoTransferencia.doArquivo(origem);
+        FormatoTransferencia formatoDestino = FormatoTransferencia.doArquivo(destino);
+        if (!Files.isRegularFile(origem)) {
+            throw new PersistenciaException("Arquivo de origem não encontrado: " + origem);
+        }
+        Path temporario = destino.toAbsolutePath().resolveSibling(destino.getFileName() + ".tmp");
+        Contagens contagens = new Contagens(System.nanoTime());
+        ExecutorService executor = criarTrabalhadores();
+        boolean concluida = false;
+        try (LeitorRegistros leitor = LeitorRegistros.abrir(origem, formatoOrigem, objectMapper)) {
+            Etapas etapas = new Etapas(new CodecTarefas(formatoOrigem, leitor.colunas(), objectMapper),
+                    new CodecTarefas(formatoDestino, null, objectMapper), formatoDestino, transformacao);
+            BlockingQueue<Future<LoteProcessado>> prontos = new ArrayBlockingQueue<>(2 * trabalhadores);
+            Thread leitura = new Thread(() -> ler(leitor, executor, etapas, prontos, contagens), "transferencia-leitura");
+            leitura.setDaemon(true);
+            leitura.start();
+            try {
+                gravar(temporario, formatoDestino, prontos, contagens, progresso);
+            } finally {
+                leitura.interrupt();
+                aguardar(leitura);
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            concluida = true;
+            return contagens.resultado();
+        } catch (IOException e) {
+            throw new PersistenciaException("Erro ao transferir tarefas de " + origem + " para " + destino + ": " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new PersistenciaException("Erro ao transferir tarefas de " + origem + ": " + e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+            if (!concluida) {
+                try {
+                    Files.deleteIfExists(temporario);
+                } catch (IOException ignorada) {
+                    // O temporário é sobrescrito na próxima transferência.
+                }
+            }
+        }
+    }
+
+    private ExecutorService criarTrabalhadores() {
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newFixedThreadPool(trabalhadores, tarefa -> {
+            Thread thread = new Thread(tarefa, "transferencia-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Estágio de leitura. Cada lote vai para os trabalhadores e o seu Future entra na fila na ordem
+    // da origem; a fila cheia segura a leitura. Null na fila marca o fim; um Future com falha, o erro.
+    private void ler(LeitorRegistros leitor, ExecutorService executor, Etapas etapas,
+                     BlockingQueue<Future<LoteProcessado>> prontos, Contagens contagens) {
+        try {
+            try {
+                long primeiro = 1;
+                List<Object> lote = new ArrayList<>(tamanhoLote);
+                for (Object registro = leitor.proximo(); registro != null; registro = leitor.proximo()) {
+                    lote.add(registro);
+                    contagens.lidas.increment();
+                    if (lote.size() == tamanhoLote) {
+                        enviar(lote, primeiro, executor, etapas, prontos);
+                        primeiro += lote.size();
+                        lote = new ArrayList<>(tamanhoLote);
+                    }
+                }
+                if (!lote.isEmpty()) {
+                    enviar(lote, primeiro, executor, etapas, prontos);
+                }
+                prontos.put(CompletableFuture.completedFuture(null));
+            } catch (IOException | RuntimeException e) {
+                CompletableFuture<LoteProcessado> falha = new CompletableFuture<>();
+                falha.completeExceptionally(e);
+                prontos.put(falha);
+            }
+        } catch (InterruptedException e) {
+            // A gravação desistiu: não há mais quem consuma a fila.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enviar(List<Object> lote, long primeiro, ExecutorService executor, Etapas etapas,
+                        BlockingQueue<Future<LoteProcessado>> prontos) throws InterruptedException {
+        prontos.put(executor.submit(() -> processar(lote, primeiro, etapas)));
+    }
+
+    // Estágio dos trabalhadores: o lote inteiro vira um único bloco de texto pronto para gravar.
+    private LoteProcessado processar(List<Object> registros, long primeiro, Etapas etapas) throws JsonProcessingException {
+        StringBuilder texto = new StringBuilder(registros.size() * 128);
+        LoteProcessado lote = new LoteProcessado();
+        for (int i = 0; i < registros.size(); i++) {
+            Tarefa tarefa;
+            try {
+                tarefa = etapas.decodificador.decodificar(registros.get(i));
+            } catch (IllegalArgumentException | DateTimeException | JsonProcessingException e) {
+                long numero = primeiro + i;
+                String motivo = e instanceof JsonProcessingException ? ((JsonProcessingException) e).getOriginalMessage() : e.getMessage();
+                if (estrito) {
+                    throw new PersistenciaException("Registro " + numero + " inválido: " + motivo, e);
+                }
+                lote.rejeitadas++;
+                if (etapas.avisos.incrementAndGet() <= LIMITE_AVISOS) {
+                    System.err.println("AVISO: Registro " + numero + " rejeitado: " + motivo);
+                }
+                continue;
+            }
+            tarefa = etapas.transformacao.apply(tarefa);
+            if (tarefa == null) {
+                lote.filtradas++;
+                continue;
+            }
+            if (etapas.formatoDestino == FormatoTransferencia.JSON && lote.gravadas > 0) {
+                texto.append(",\n");
+            }
+            etapas.codificador.codificar(tarefa, texto);
+            if (etapas.formatoDestino != FormatoTransferencia.JSON) {
+                texto.append('\n');
+            }
+            lote.gravadas++;
+        }
+        lote.texto = texto.toString();
+        return lote;
+    }
+
+    // Estágio de gravação, na thread que chamou transferir.
+    private void gravar(Path temporario, FormatoTransferencia formato, BlockingQueue<Future<LoteProcessado>> prontos,
+                        Contagens contagens, Consumer<ResultadoTransferencia> progresso) throws IOException {
+        Path parentDir = temporario.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+        }
+        try (Writer saida = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temporario), StandardCharsets.UTF_8), TAMANHO_BUFFER)) {
+            if (formato == FormatoTransferencia.JSON) {
+                saida.write("[\n");
+            } else if (formato == FormatoTransferencia.CSV) {
+                saida.write(String.join(",", CodecTarefas.COLUNAS_CSV));
+                saida.write('\n');
+            }
+            long proximoProgresso = contagens.inicio + INTERVALO_PROGRESSO_NANOS;
+            for (LoteProcessado lote = proximoLote(prontos); lote != null; lote = proximoLote(prontos)) {
+                if (lote.gravadas > 0) {
+                    if (formato == FormatoTransferencia.JSON && contagens.gravadas > 0) {
+                        saida.write(",\n");
+                    }
+                    saida.write(lote.texto);
+                }
+                contagens.somar(lote);
+                if (System.nanoTime() >= proximoProgresso) {
+                    progresso.accept(contagens.resultado());
+                    proximoProgresso = System.nanoTime() + INTERVALO_PROGRESSO_NANOS;
+                }
+            }
+            if (formato == FormatoTransferencia.JSON) {
+                saida.write(contagens.gravadas > 0 ? "\n]\n" : "]\n");
+            }
+        }
+    }
+
+    private static LoteProcessado proximoLote(BlockingQueue<Future<LoteProcessado>> prontos) throws IOException {
+        try {
+            return prontos.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenciaException("Transferência interrompida.", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof PersistenciaException) {
+                throw (PersistenciaException) causa;
+            }
+            if (causa instanceof IOException) {
+                throw (IOException) causa;
+            }
+            throw new PersistenciaException("Erro ao processar tarefas: " + causa, causa);
+        }
+    }
+
+    private static void aguardar(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Etapas {
+        final CodecTarefas decodificador;
+        final CodecTarefas codificador;
+        final FormatoTransferencia formatoDestino;
+        final UnaryOperator<Tarefa> transformacao;
+        final AtomicInteger avisos = new AtomicInteger();
+
+        Etapas(CodecTarefas decodificador, CodecTarefas codificador, FormatoTransferencia formatoDestino,
+               UnaryOperator<Tarefa> transformacao) {
+            this.decodificador = decodificador;
+            this.codificador = codificador;
+            this.formatoDestino = formatoDestino;
+            this.transformacao = transformacao;
+        }
+    }
+
+    private static final class LoteProcessado {
+        String texto;
+        int gravadas;
+        int rejeitadas;
+        int filtradas;
+    }
+
+    // lidas é incrementado pela leitura; as demais, só pela gravação.
+    private static final class Contagens {
+        final long inicio;
+        final LongAdder lidas = new LongAdder();
+        long gravadas;
+        long rejeitadas;
+        long filtradas;
+
+        Contagens(long inicio) {
+            this.inicio = inicio;
+        }
+
+        void somar(LoteProcessado lote) {
+            gravadas += lote.gravadas;
+            rejeitadas += lote.rejeitadas;
+            filtradas += lote.filtradas;
+        }
+
+        ResultadoTransferencia resultado() {
+            return new ResultadoTransferencia(lidas.sum(), gravadas, rejeitadas, filtradas, System.nanoTime() - inicio);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package main.java.com.todolist.transferencia;
+
+import java.time.Duration;
+
+/**
+ * Contagens de uma transferência, parciais (durante o progresso) ou finais.
+ */
+public final class ResultadoTransferencia {
+
+    private final long lidas;
+    private final long gravadas;
+    private final long rejeitadas;
+    private final long filtradas;
+    private final long nanos;
+
+    ResultadoTransferencia(long lidas, long gravadas, long rejeitadas, long filtradas, long nanos) {
+        this.lidas = lidas;
+        this.gravadas = gravadas;
+        this.rejeitadas = rejeitadas;
+        this.filtradas = filtradas;
+        this.nanos = nanos;
+    }
+
+    /** Registros lidos da origem, válidos ou não. */
+    public long getLidas() {
+        return lidas;
+    }
+
+    public long getGravadas() {
+        return gravadas;
+    }
+
+    /** Registros que não formavam uma tarefa válida. */
+    public long getRejeitadas() {
+        return rejeitadas;
+    }
+
+    /** Tarefas válidas que a transformação descartou. */
+    public long getFiltradas() {
+        return filtradas;
+    }
+
+    public Duration getDuracao() {
+        return Duration.ofNanos(nanos);
+    }
+
+    public double getRegistrosPorSegundo() {
+        return nanos == 0 ? 0.0 : lidas * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d lidas, %,d gravadas, %,d rejeitadas, %,d filtradas em %.1f s (%,.0f registros/s)",
+                lidas, gravadas, rejeitadas, filtradas, nanos / 1e9, getRegistrosPorSegundo());
+    }
+}
\ No newline at end of file
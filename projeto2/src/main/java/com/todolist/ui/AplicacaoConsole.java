@@ -2,14 +2,25 @@ package main.java.com.todolist.ui;
 
 import main.java.com.todolist.domain.StatusTarefa;
 import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.metricas.ColetorMetricas;
+import main.java.com.todolist.metricas.Metricas;
+import main.java.com.todolist.persistence.PersistenciaBinaria;
+import main.java.com.todolist.persistence.PersistenciaComDelta;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaFragmentada;
+import main.java.com.todolist.persistence.PersistenciaJdbc;
 import main.java.com.todolist.persistence.PersistenciaJson;
 import main.java.com.todolist.persistence.PersistenciaTarefas;
 import main.java.com.todolist.service.GerenciadorTarefas;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Scanner;
 
@@ -17,15 +28,61 @@ public class AplicacaoConsole {
 
     private final GerenciadorTarefas gerenciador;
     private final Scanner scanner;
+    private final PersistenciaTarefas persistencia;
+    private ColetorMetricas coletorMetricas;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final String NOME_ARQUIVO_DADOS = "tarefas.json";
+    static final String NOME_ARQUIVO_DADOS = "tarefas.json";
+    private static final int TAREFAS_POR_PAGINA = 20;
 
     public AplicacaoConsole() {
-        PersistenciaTarefas persistencia = new PersistenciaJson(NOME_ARQUIVO_DADOS);
-        this.gerenciador = new GerenciadorTarefas(persistencia);
+        this(NOME_ARQUIVO_DADOS);
+    }
+
+    public AplicacaoConsole(String nomeArquivoDados) {
+        this.persistencia = abrirPersistencia(nomeArquivoDados);
+        this.gerenciador = new GerenciadorTarefas(persistencia, criarMetricas());
         this.scanner = new Scanner(System.in);
     }
 
+    // Arquivos .bin usam o formato binário, que permite abrir o menu antes de a carga terminar;
+    // um diretório (terminado em "/") guarda as tarefas em fragmentos por faixa de ID, e uma URL
+    // jdbc: usa um banco embutido, com o driver no classpath. No JSON, cada alteração grava só um
+    // delta ao lado do arquivo, mesclado a ele de tempos em tempos.
+    static PersistenciaTarefas abrirPersistencia(String nomeArquivoDados) {
+        if (nomeArquivoDados.startsWith("jdbc:")) {
+            return new PersistenciaJdbc(nomeArquivoDados);
+        } else if (nomeArquivoDados.endsWith("/") || new File(nomeArquivoDados).isDirectory()) {
+            return new PersistenciaFragmentada(nomeArquivoDados);
+        } else if (nomeArquivoDados.endsWith(".bin")) {
+            return new PersistenciaBinaria(nomeArquivoDados);
+        }
+        return new PersistenciaComDelta(new PersistenciaJson(nomeArquivoDados), nomeArquivoDados + ".delta");
+    }
+
+    // Ferramentas que leem o JSON diretamente mesclam antes o delta deixado pela aplicação; sem
+    // isso, leriam um estado com até LIMITE_PADRAO_REGISTROS alterações de atraso.
+    static void mesclarDeltaPendente(String nomeArquivoJson) throws PersistenciaException {
+        try (PersistenciaComDelta persistencia = new PersistenciaComDelta(new PersistenciaJson(nomeArquivoJson), nomeArquivoJson + ".delta")) {
+            persistencia.mesclar();
+        }
+    }
+
+    // Com -Dtodolist.metricas=<segundos>, publica as métricas via JMX e imprime um resumo em System.err.
+    private Metricas criarMetricas() {
+        String intervalo = System.getProperty("todolist.metricas");
+        if (intervalo == null) {
+            return Metricas.DESATIVADAS;
+        }
+        coletorMetricas = new ColetorMetricas();
+        coletorMetricas.publicarJmx("console");
+        try {
+            coletorMetricas.iniciarRelatorioPeriodico(Duration.ofSeconds(Long.parseLong(intervalo)), System.err);
+        } catch (IllegalArgumentException e) {
+            System.err.println("AVISO: Intervalo de métricas inválido, relatório periódico desativado: " + intervalo);
+        }
+        return coletorMetricas;
+    }
+
     public void executar() {
         int opcao;
         do {
@@ -34,6 +91,18 @@ public class AplicacaoConsole {
             processarOpcao(opcao);
         } while (opcao != 0);
 
+        gerenciador.close();
+        if (persistencia instanceof Closeable) {
+            try {
+                ((Closeable) persistencia).close();
+            } catch (IOException e) {
+                System.err.println("AVISO: Erro ao fechar a persistência: " + e.getMessage());
+            }
+        }
+        if (coletorMetricas != null) {
+            System.err.print(coletorMetricas.relatorio());
+            coletorMetricas.close();
+        }
         System.out.println("Saindo da aplicação. Até logo!");
         scanner.close();
     }
@@ -87,13 +156,13 @@ public class AplicacaoConsole {
                 adicionarTarefa();
                 break;
             case 2:
-                listarTarefas(gerenciador.listarTodas(), "Todas as Tarefas");
+                listarTarefas(gerenciador.iterarTodas(), "Todas as Tarefas");
                 break;
             case 3:
-                listarTarefas(gerenciador.listarPendentes(), "Tarefas Pendentes");
+                listarTarefas(gerenciador.listarPendentes().iterator(), "Tarefas Pendentes");
                 break;
             case 4:
-                listarTarefas(gerenciador.listarConcluidas(), "Tarefas Concluídas");
+                listarTarefas(gerenciador.listarConcluidas().iterator(), "Tarefas Concluídas");
                 break;
             case 5:
                 marcarTarefa(StatusTarefa.CONCLUIDA);
@@ -145,12 +214,18 @@ public class AplicacaoConsole {
         }
     }
 
-    private void listarTarefas(List<Tarefa> tarefas, String tituloLista) {
+    private void listarTarefas(Iterator<Tarefa> tarefas, String tituloLista) {
         System.out.println("\n--- " + tituloLista + " ---");
-        if (tarefas.isEmpty()) {
+        if (!tarefas.hasNext()) {
             System.out.println("Nenhuma tarefa encontrada.");
         } else {
-            for (Tarefa t : tarefas) {
+            int exibidas = 0;
+            while (tarefas.hasNext()) {
+                if (exibidas > 0 && exibidas % TAREFAS_POR_PAGINA == 0 && !continuarListagem()) {
+                    break;
+                }
+                Tarefa t = tarefas.next();
+                exibidas++;
                 String dataStr = t.getDataVencimento() != null ? DATE_FORMATTER.format(t.getDataVencimento()) : "N/A";
                 System.out.printf("ID: %d | Título: %s | Status: %s | Vencimento: %s | Descrição: %s%n",
                         t.getId(),
@@ -162,6 +237,11 @@ public class AplicacaoConsole {
         }
     }
 
+    private boolean continuarListagem() {
+        System.out.print("-- Enter para mais tarefas, 'q' para voltar ao menu: ");
+        return !scanner.nextLine().trim().equalsIgnoreCase("q");
+    }
+
     private void marcarTarefa(StatusTarefa novoStatus) {
          String acao = novoStatus == StatusTarefa.CONCLUIDA ? "Concluir" : "Reabrir (Marcar como Pendente)";
          System.out.println("\n--- " + acao +" Tarefa ---");
@@ -234,7 +314,7 @@ public class AplicacaoConsole {
     }
 
     public static void main(String[] args) {
-        AplicacaoConsole app = new AplicacaoConsole();
+        AplicacaoConsole app = args.length > 0 ? new AplicacaoConsole(args[0]) : new AplicacaoConsole();
         app.executar();
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package main.java.com.todolist.ui;
+
+import main.java.com.todolist.persistence.PersistenciaBinaria;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaJson;
+
+// Converte um tarefas.json existente para o formato binário de PersistenciaBinaria.
+public class ConversorJsonBinario {
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: ConversorJsonBinario <arquivo.json> <arquivo.bin>");
+            System.exit(2);
+        }
+        long inicio = System.nanoTime();
+        try {
+            AplicacaoConsole.mesclarDeltaPendente(args[0]);
+            long convertidas = new PersistenciaBinaria(args[1]).converterDe(new PersistenciaJson(args[0]));
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            System.out.println(convertidas + " tarefas convertidas em " + duracaoMs + " ms.");
+        } catch (PersistenciaException e) {
+            System.err.println("Erro na conversão: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
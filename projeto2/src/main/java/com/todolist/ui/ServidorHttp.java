@@ -0,0 +1,415 @@
+package main.java.com.todolist.ui;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import main.java.com.todolist.service.InstantaneoTarefas;
+import main.java.com.todolist.service.PaginaTarefas;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Expõe o GerenciadorTarefas como uma API REST/JSON sobre o HttpServer do JDK:
+ * <pre>
+ *   GET    /tarefas                    todas, ou ?status=PENDENTE|CONCLUIDA, ?q=texto, ?cursor=&amp;limite=
+ *   POST   /tarefas                    {"titulo", "descricao", "dataVencimento"} -> 201
+ *   GET    /tarefas/{id}
+ *   PUT    /tarefas/{id}               {"titulo", "descricao", "dataVencimento"}
+ *   PUT    /tarefas/{id}/status        {"status": "CONCLUIDA"}
+ *   DELETE /tarefas/{id}               -> 204
+ * </pre>
+ * O HttpServer lê as conexões com I/O não bloqueante e mantém cada uma aberta entre requisições;
+ * requisições enviadas em sequência na mesma conexão (pipelining) são respondidas em ordem. As
+ * leituras vêm de um {@link InstantaneoTarefas}, cujas tarefas não mudam enquanto são serializadas;
+ * as listagens levam um ETag fraco com a versão dele, respondem 304 a um If-None-Match igual sem
+ * serializar nada e são compactadas com gzip se o cliente aceitar. Corpos maiores que
+ * {@value #LIMITE_CORPO} bytes recebem 413.
+ */
+public class ServidorHttp implements Closeable {
+
+    static final int PORTA_PADRAO = 8080;
+    static final int LIMITE_PAGINA = 1_000;
+    static final int LIMITE_CORPO = 64 * 1024;
+
+    private final GerenciadorTarefas gerenciador;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+    private final boolean threadsVirtuais;
+    private final ObjectMapper objectMapper;
+
+    public ServidorHttp(GerenciadorTarefas gerenciador, InetSocketAddress endereco) throws IOException {
+        this.gerenciador = gerenciador;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ExecutorService virtuais = executorThreadsVirtuais();
+        this.threadsVirtuais = virtuais != null;
+        this.executor = virtuais != null ? virtuais : executorPlataforma();
+        this.servidor = HttpServer.create(endereco, 0);
+        this.servidor.setExecutor(executor);
+        this.servidor.createContext("/tarefas", this::tratar);
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+
+    public boolean usaThreadsVirtuais() {
+        return threadsVirtuais;
+    }
+
+    /**
+     * Para de aceitar conexões e espera até um segundo pelas requisições em andamento.
+     */
+    @Override
+    public void close() {
+        servidor.stop(1);
+        executor.shutdown();
+    }
+
+    // Uma thread virtual por requisição no Java 21+. As operações do gerenciador são curtas, então
+    // prender a thread portadora enquanto elas seguram o monitor do gerenciador não pesa.
+    private static ExecutorService executorThreadsVirtuais() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService executorPlataforma() {
+        int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+        AtomicInteger contador = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, tarefa -> {
+            Thread thread = new Thread(tarefa, "http-tarefas-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void tratar(HttpExchange troca) {
+        try {
+            // O corpo é lido por inteiro antes da resposta, para que a próxima requisição da
+            // conexão comece no lugar certo.
+            byte[] corpo = lerCorpo(troca.getRequestBody());
+            if (corpo == null) {
+                // O restante do corpo não foi lido, então a conexão não serve para a próxima requisição.
+                troca.getResponseHeaders().set("Connection", "close");
+                responderErro(troca, 413, "Corpo da requisição maior que " + LIMITE_CORPO + " bytes.");
+                return;
+            }
+            String[] partes = troca.getRequestURI().getPath().substring("/tarefas".length()).split("/");
+            String metodo = troca.getRequestMethod();
+            if (partes.length <= 1) {
+                if ("GET".equals(metodo)) {
+                    listar(troca);
+                } else if ("POST".equals(metodo)) {
+                    criar(troca, corpo);
+                } else {
+                    metodoNaoPermitido(troca, "GET, POST");
+                }
+                return;
+            }
+            long id = Long.parseLong(partes[1]);
+            if (partes.length == 2) {
+                if ("GET".equals(metodo)) {
+                    buscar(troca, id);
+                } else if ("PUT".equals(metodo)) {
+                    atualizar(troca, id, corpo);
+                } else if ("DELETE".equals(metodo)) {
+                    excluir(troca, id);
+                } else {
+                    metodoNaoPermitido(troca, "GET, PUT, DELETE");
+                }
+            } else if (partes.length == 3 && "status".equals(partes[2])) {
+                if ("PUT".equals(metodo)) {
+                    alterarStatus(troca, id, corpo);
+                } else {
+                    metodoNaoPermitido(troca, "PUT");
+                }
+            } else {
+                responderErro(troca, 404, "Recurso não encontrado: " + troca.getRequestURI().getPath());
+            }
+        } catch (JsonProcessingException e) {
+            responderErroSilencioso(troca, 400, "JSON inválido: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            responderErroSilencioso(troca, 400, e.getMessage());
+        } catch (IOException e) {
+            // Conexão encerrada pelo cliente no meio da resposta: não há a quem responder.
+        } catch (RuntimeException e) {
+            System.err.println("AVISO: Erro ao tratar " + troca.getRequestMethod() + " " + troca.getRequestURI() + ": " + e);
+            responderErroSilencioso(troca, 500, "Erro interno.");
+        } finally {
+            troca.close();
+        }
+    }
+
+    private void listar(HttpExchange troca) throws IOException {
+        Map<String, String> parametros = parametros(troca);
+        // O ETag é lido antes da lista: a resposta nunca é mais antiga que a versão anunciada.
+        InstantaneoTarefas instantaneo = gerenciador.instantaneo();
+        String etag = "W/\"" + instantaneo.getVersao() + "\"";
+        if (correspondeEtag(troca.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            troca.getResponseHeaders().set("ETag", etag);
+            troca.sendResponseHeaders(304, -1);
+            return;
+        }
+        String status = parametros.get("status");
+        String consulta = parametros.get("q");
+        if (parametros.containsKey("cursor") || parametros.containsKey("limite")) {
+            long cursor = Long.parseLong(parametros.getOrDefault("cursor", String.valueOf(PaginaTarefas.INICIO)));
+            int limite = Math.min(LIMITE_PAGINA, Integer.parseInt(parametros.getOrDefault("limite", "100")));
+            PaginaTarefas pagina = instantaneo.listarPagina(cursor, limite);
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("tarefas", pagina.getTarefas());
+            resposta.put("proximoCursor", pagina.getProximoCursor());
+            resposta.put("temMais", pagina.temMais());
+            responderLista(troca, etag, gerador -> gerador.writeObject(resposta));
+        } else if (consulta != null) {
+            responderLista(troca, etag, gerador -> escreverTarefas(gerador, buscarPorTexto(instantaneo, consulta)));
+        } else if (status != null) {
+            StatusTarefa filtro = StatusTarefa.valueOf(status.toUpperCase());
+            responderLista(troca, etag, gerador -> escreverTarefas(gerador, instantaneo.listarPorStatus(filtro)));
+        } else {
+            responderLista(troca, etag, gerador -> escreverTarefas(gerador, instantaneo));
+        }
+    }
+
+    // O índice de texto só existe no gerenciador; as tarefas encontradas são trocadas pelas cópias
+    // do instantâneo, e as excluídas depois dele ficam de fora.
+    private List<Tarefa> buscarPorTexto(InstantaneoTarefas instantaneo, String consulta) {
+        List<Tarefa> encontradas = new ArrayList<>();
+        for (Tarefa tarefa : gerenciador.buscarPorTexto(consulta)) {
+            instantaneo.buscarPorId(tarefa.getId()).ifPresent(encontradas::add);
+        }
+        return encontradas;
+    }
+
+    private void buscar(HttpExchange troca, long id) throws IOException {
+        Tarefa tarefa = gerenciador.instantaneo().buscarPorId(id).orElse(null);
+        if (tarefa == null) {
+            responderErro(troca, 404, "Tarefa " + id + " não encontrada.");
+        } else {
+            responderJson(troca, 200, tarefa);
+        }
+    }
+
+    private void criar(HttpExchange troca, byte[] corpo) throws IOException {
+        JsonNode dados = lerJson(corpo);
+        Tarefa tarefa = gerenciador.adicionarTarefa(texto(dados, "titulo"), texto(dados, "descricao"), data(dados));
+        troca.getResponseHeaders().set("Location", "/tarefas/" + tarefa.getId());
+        responderJson(troca, 201, tarefa);
+    }
+
+    private void atualizar(HttpExchange troca, long id, byte[] corpo) throws IOException {
+        JsonNode dados = lerJson(corpo);
+        if (!gerenciador.atualizarTarefa(id, texto(dados, "titulo"), texto(dados, "descricao"), data(dados))) {
+            responderErro(troca, 404, "Tarefa " + id + " não encontrada.");
+            return;
+        }
+        buscar(troca, id);
+    }
+
+    private void alterarStatus(HttpExchange troca, long id, byte[] corpo) throws IOException {
+        String status = texto(lerJson(corpo), "status");
+        if (status == null) {
+            throw new IllegalArgumentException("Campo \"status\" é obrigatório.");
+        }
+        boolean encontrada = StatusTarefa.valueOf(status.toUpperCase()) == StatusTarefa.CONCLUIDA
+                ? gerenciador.marcarComoConcluida(id)
+                : gerenciador.marcarComoPendente(id);
+        if (!encontrada) {
+            responderErro(troca, 404, "Tarefa " + id + " não encontrada.");
+            return;
+        }
+        buscar(troca, id);
+    }
+
+    private void excluir(HttpExchange troca, long id) throws IOException {
+        if (gerenciador.excluirTarefa(id)) {
+            troca.sendResponseHeaders(204, -1);
+        } else {
+            responderErro(troca, 404, "Tarefa " + id + " não encontrada.");
+        }
+    }
+
+    private void metodoNaoPermitido(HttpExchange troca, String permitidos) throws IOException {
+        troca.getResponseHeaders().set("Allow", permitidos);
+        responderErro(troca, 405, "Método " + troca.getRequestMethod() + " não permitido.");
+    }
+
+    // Listas podem ser grandes: vão em partes (chunked), direto do gerador para a conexão.
+    private void responderLista(HttpExchange troca, String etag, EscritaJson escrita) throws IOException {
+        Headers cabecalhos = troca.getResponseHeaders();
+        cabecalhos.set("Content-Type", "application/json; charset=utf-8");
+        cabecalhos.set("ETag", etag);
+        cabecalhos.set("Vary", "Accept-Encoding");
+        boolean gzip = aceitaGzip(troca);
+        if (gzip) {
+            cabecalhos.set("Content-Encoding", "gzip");
+        }
+        troca.sendResponseHeaders(200, 0);
+        OutputStream saida = gzip ? new GZIPOutputStream(troca.getResponseBody(), 8192) : troca.getResponseBody();
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            escrita.escrever(gerador);
+        }
+    }
+
+    private void responderJson(HttpExchange troca, int status, Object valor) throws IOException {
+        byte[] corpo = objectMapper.writeValueAsBytes(valor);
+        troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        troca.sendResponseHeaders(status, corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    private void responderErro(HttpExchange troca, int status, String mensagem) throws IOException {
+        Map<String, String> erro = new HashMap<>();
+        erro.put("erro", mensagem);
+        responderJson(troca, status, erro);
+    }
+
+    // Se os cabeçalhos já foram enviados, a resposta não pode mais mudar e a conexão é encerrada.
+    private void responderErroSilencioso(HttpExchange troca, int status, String mensagem) {
+        try {
+            responderErro(troca, status, mensagem);
+        } catch (IOException | RuntimeException ignorada) {
+            // Sem como avisar o cliente.
+        }
+    }
+
+    private static void escreverTarefas(JsonGenerator gerador, Iterable<Tarefa> tarefas) throws IOException {
+        gerador.writeStartArray();
+        for (Tarefa tarefa : tarefas) {
+            gerador.writeObject(tarefa);
+        }
+        gerador.writeEndArray();
+    }
+
+    private JsonNode lerJson(byte[] corpo) throws IOException {
+        if (corpo.length == 0) {
+            throw new IllegalArgumentException("Corpo da requisição vazio.");
+        }
+        return objectMapper.readTree(corpo);
+    }
+
+    private static String texto(JsonNode dados, String campo) {
+        JsonNode valor = dados.get(campo);
+        return valor == null || valor.isNull() ? null : valor.asText();
+    }
+
+    private static LocalDate data(JsonNode dados) {
+        String data = texto(dados, "dataVencimento");
+        return data != null ? LocalDate.parse(data) : null;
+    }
+
+    // Lê no máximo LIMITE_CORPO bytes; null se o corpo passar disso.
+    private static byte[] lerCorpo(InputStream entrada) throws IOException {
+        try (entrada) {
+            byte[] corpo = entrada.readNBytes(LIMITE_CORPO + 1);
+            return corpo.length > LIMITE_CORPO ? null : corpo;
+        }
+    }
+
+    private static Map<String, String> parametros(HttpExchange troca) {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = troca.getRequestURI().getRawQuery();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = igual >= 0 ? par.substring(0, igual) : par;
+            String valor = igual >= 0 ? par.substring(igual + 1) : "";
+            parametros.put(URLDecoder.decode(nome, StandardCharsets.UTF_8), URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    private static boolean aceitaGzip(HttpExchange troca) {
+        String aceitas = troca.getRequestHeaders().getFirst("Accept-Encoding");
+        return aceitas != null && aceitas.toLowerCase().contains("gzip");
+    }
+
+    // Comparação fraca: W/"7" e "7" correspondem, como o If-None-Match exige.
+    static boolean correspondeEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String procurada = semPrefixoFraco(etag);
+        for (String candidata : ifNoneMatch.split(",")) {
+            String valor = candidata.trim();
+            if (valor.equals("*") || semPrefixoFraco(valor).equals(procurada)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String semPrefixoFraco(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    @FunctionalInterface
+    private interface EscritaJson {
+        void escrever(JsonGenerator gerador) throws IOException;
+    }
+
+    // Sem TCP_NODELAY, respostas pequenas em sequência esperam o ACK atrasado do cliente.
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        String arquivo = args.length > 0 ? args[0] : AplicacaoConsole.NOME_ARQUIVO_DADOS;
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : PORTA_PADRAO;
+        PersistenciaTarefas persistencia = AplicacaoConsole.abrirPersistencia(arquivo);
+        GerenciadorTarefas gerenciador = new GerenciadorTarefas(persistencia);
+        ServidorHttp servidor = new ServidorHttp(gerenciador, new InetSocketAddress(porta));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.close();
+            gerenciador.close();
+            if (persistencia instanceof Closeable) {
+                try {
+                    ((Closeable) persistencia).close();
+                } catch (IOException e) {
+                    System.err.println("AVISO: Erro ao fechar a persistência: " + e.getMessage());
+                }
+            }
+        }, "encerrar-servidor-tarefas"));
+        servidor.iniciar();
+        System.out.println("Servidor de tarefas em http://localhost:" + servidor.getPorta() + "/tarefas"
+                + (servidor.usaThreadsVirtuais() ? " (threads virtuais)." : "."));
+    }
+}
\ No newline at end of file
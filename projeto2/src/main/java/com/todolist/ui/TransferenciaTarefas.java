@@ -0,0 +1,73 @@
+package main.java.com.todolist.ui;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.transferencia.FormatoTransferencia;
+import main.java.com.todolist.transferencia.PipelineTransferencia;
+import main.java.com.todolist.transferencia.ResultadoTransferencia;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+// Importa ou exporta tarefas entre arquivos JSON, NDJSON e CSV (formato pela extensão), em fluxo,
+// com o progresso em System.err a cada segundo:
+//
+//   TransferenciaTarefas tarefas.json tarefas.csv [--status=PENDENTE] [--estrito] [--threads=N] [--lote=N]
+public class TransferenciaTarefas {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Uso: TransferenciaTarefas <origem> <destino> [--status=PENDENTE|CONCLUIDA] [--estrito] [--threads=N] [--lote=N]");
+            System.out.println("Formatos pela extensão: .json, .ndjson (ou .jsonl) e .csv.");
+            System.exit(2);
+        }
+        Path origem = Paths.get(args[0]);
+        Path destino = Paths.get(args[1]);
+        StatusTarefa status = null;
+        boolean estrito = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int lote = PipelineTransferencia.TAMANHO_LOTE_PADRAO;
+        try {
+            for (int i = 2; i < args.length; i++) {
+                String opcao = args[i];
+                if (opcao.startsWith("--status=")) {
+                    status = StatusTarefa.valueOf(valor(opcao).toUpperCase(Locale.ROOT));
+                } else if (opcao.equals("--estrito")) {
+                    estrito = true;
+                } else if (opcao.startsWith("--threads=")) {
+                    threads = Integer.parseInt(valor(opcao));
+                } else if (opcao.startsWith("--lote=")) {
+                    lote = Integer.parseInt(valor(opcao));
+                } else {
+                    throw new IllegalArgumentException("Opção desconhecida: " + opcao);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Opção inválida: " + e.getMessage());
+            System.exit(2);
+        }
+
+        StatusTarefa filtro = status;
+        UnaryOperator<Tarefa> transformacao = filtro == null
+                ? UnaryOperator.identity()
+                : tarefa -> tarefa.getStatus() == filtro ? tarefa : null;
+        try {
+            if (FormatoTransferencia.doArquivo(origem) == FormatoTransferencia.JSON) {
+                AplicacaoConsole.mesclarDeltaPendente(origem.toString());
+            }
+            ResultadoTransferencia resultado = new PipelineTransferencia(threads, lote, estrito)
+                    .transferir(origem, destino, transformacao, parcial -> System.err.println("Progresso: " + parcial));
+            System.out.println("Concluído: " + resultado + ".");
+        } catch (PersistenciaException | IllegalArgumentException e) {
+            System.err.println("Erro na transferência: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static String valor(String opcao) {
+        return opcao.substring(opcao.indexOf('=') + 1);
+    }
+}
\ No newline at end of file
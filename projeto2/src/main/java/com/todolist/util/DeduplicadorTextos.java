@@ -0,0 +1,47 @@
+package main.java.com.todolist.util;
+
+/**
+ * Devolve uma instância canônica para textos repetidos, como descrições copiadas de um modelo,
+ * para que cópias iguais não ocupem memória cada uma.
+ * <p>
+ * É uma tabela de tamanho fixo indexada pelo hash do texto: um texto novo substitui o que ocupava
+ * sua posição. Textos repetidos com frequência continuam compartilhados, e a memória da tabela
+ * não cresce com a quantidade de textos distintos. Não é thread-safe.
+ */
+public class DeduplicadorTextos {
+
+    public static final int POSICOES_PADRAO = 1 << 14;
+
+    private final String[] tabela;
+
+    public DeduplicadorTextos() {
+        this(POSICOES_PADRAO);
+    }
+
+    /**
+     * @param posicoes Tamanho da tabela; é arredondado para a próxima potência de dois.
+     */
+    public DeduplicadorTextos(int posicoes) {
+        if (posicoes <= 0) {
+            throw new IllegalArgumentException("Quantidade de posições deve ser positiva.");
+        }
+        this.tabela = new String[posicoes == 1 ? 1 : Integer.highestOneBit(posicoes - 1) << 1];
+    }
+
+    /**
+     * @return Uma instância igual ao texto já vista antes, ou o próprio texto. Nulo devolve nulo.
+     */
+    public String canonico(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        int hash = texto.hashCode();
+        int posicao = (hash ^ (hash >>> 16)) & (tabela.length - 1);
+        String existente = tabela[posicao];
+        if (texto.equals(existente)) {
+            return existente;
+        }
+        tabela[posicao] = texto;
+        return texto;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,315 @@
+package main.java.com.todolist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mapa de chaves {@code long} que preserva a ordem de inserção, sem boxing das chaves.
+ * <p>
+ * As entradas ficam em arrays densos na ordem em que foram inseridas e uma tabela de
+ * endereçamento aberto guarda a posição de cada uma. Remoções deixam a entrada vazia
+ * e os buracos são eliminados quando passam de metade das entradas, o que mantém
+ * busca, inserção e remoção em O(1) amortizado. Não aceita valores nulos e não é thread-safe.
+ */
+public class MapaLongo<V> implements Iterable<V> {
+
+    private static final int CAPACIDADE_MINIMA = 16;
+    // Acima disso a tabela de espalhamento (até 4 slots por entrada) não cabe num array.
+    public static final int CAPACIDADE_MAXIMA = 1 << 28;
+
+    private long[] chaves;
+    private Object[] valores;
+    private int[] tabela;
+    private int bitsTabela;
+    private int entradasUsadas;
+    private int tamanho;
+    private int modificacoes;
+
+    public MapaLongo() {
+        this(CAPACIDADE_MINIMA);
+    }
+
+    public MapaLongo(int capacidadeEsperada) {
+        if (capacidadeEsperada < 0 || capacidadeEsperada > CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Capacidade esperada inválida: " + capacidadeEsperada);
+        }
+        int capacidade = Math.max(CAPACIDADE_MINIMA, capacidadeEsperada);
+        this.chaves = new long[capacidade];
+        this.valores = new Object[capacidade];
+        redimensionarTabela(capacidade);
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public boolean containsKey(long chave) {
+        return posicaoDaEntrada(chave) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        int posicao = posicaoDaEntrada(chave);
+        return posicao >= 0 ? (V) valores[posicao] : null;
+    }
+
+    /**
+     * Associa o valor à chave. Uma chave já presente mantém sua posição na ordem de inserção.
+     * @return O valor anterior, ou null se a chave não existia.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long chave, V valor) {
+        if (valor == null) {
+            throw new NullPointerException("MapaLongo não aceita valores nulos.");
+        }
+        int posicao = posicaoDaEntrada(chave);
+        if (posicao >= 0) {
+            V anterior = (V) valores[posicao];
+            valores[posicao] = valor;
+            return anterior;
+        }
+        if (entradasUsadas == chaves.length) {
+            if (tamanho <= entradasUsadas / 2) {
+                compactar();
+            } else {
+                crescer();
+            }
+        }
+        int nova = entradasUsadas++;
+        chaves[nova] = chave;
+        valores[nova] = valor;
+        inserirNaTabela(chave, nova);
+        tamanho++;
+        modificacoes++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long chave) {
+        int posicao = posicaoDaEntrada(chave);
+        if (posicao < 0) {
+            return null;
+        }
+        V anterior = (V) valores[posicao];
+        valores[posicao] = null;
+        tamanho--;
+        modificacoes++;
+        if (tamanho == 0) {
+            clear();
+        } else if (tamanho < (entradasUsadas - tamanho) && entradasUsadas > CAPACIDADE_MINIMA) {
+            compactar();
+        }
+        return anterior;
+    }
+
+    public void clear() {
+        Arrays.fill(valores, 0, entradasUsadas, null);
+        Arrays.fill(tabela, 0);
+        entradasUsadas = 0;
+        tamanho = 0;
+        modificacoes++;
+    }
+
+    /**
+     * Copia para {@code destino} até {@code limite} valores, na ordem de inserção, a partir da
+     * entrada {@code entrada} (0 no início). Não compacta o mapa.
+     * @return A entrada em que a próxima cópia continua; só é válida enquanto
+     *         {@link #modificacoes()} não mudar.
+     */
+    @SuppressWarnings("unchecked")
+    public int copiarValores(int entrada, int limite, List<? super V> destino) {
+        int copiados = 0;
+        while (entrada < entradasUsadas && copiados < limite) {
+            Object valor = valores[entrada++];
+            if (valor != null) {
+                destino.add((V) valor);
+                copiados++;
+            }
+        }
+        return entrada;
+    }
+
+    /**
+     * Contador de inclusões, remoções e compactações, para quem percorre o mapa em partes.
+     */
+    public int modificacoes() {
+        return modificacoes;
+    }
+
+    /**
+     * Retorna o valor na posição {@code indice} da ordem de inserção.
+     * Elimina eventuais buracos deixados por remoções antes do acesso.
+     */
+    @SuppressWarnings("unchecked")
+    public V valorNaPosicao(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", tamanho: " + tamanho);
+        }
+        if (entradasUsadas != tamanho) {
+            compactar();
+        }
+        return (V) valores[indice];
+    }
+
+    /**
+     * Copia os valores para uma nova lista, na ordem de inserção.
+     */
+    public List<V> copiarValores() {
+        List<V> copia = new ArrayList<>(tamanho);
+        for (V valor : this) {
+            copia.add(valor);
+        }
+        return copia;
+    }
+
+    /**
+     * Copia até {@code limite} valores com chave maior que {@code chave}, na ordem de inserção.
+     * Só é válido se as chaves foram inseridas em ordem crescente: o início é achado por busca
+     * binária nas chaves, que continuam ordenadas mesmo com os buracos das remoções.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> valoresApos(long chave, int limite) {
+        int inicio = 0;
+        int fim = entradasUsadas;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (chaves[meio] <= chave) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        List<V> resultado = new ArrayList<>(Math.min(limite, tamanho));
+        for (int posicao = inicio; posicao < entradasUsadas && resultado.size() < limite; posicao++) {
+            if (valores[posicao] != null) {
+                resultado.add((V) valores[posicao]);
+            }
+        }
+        return resultado;
+    }
+
+    public Stream<V> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator<V> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+            private final int modificacoesEsperadas = modificacoes;
+            private int proxima = avancar(0);
+
+            private int avancar(int posicao) {
+                while (posicao < entradasUsadas && valores[posicao] == null) {
+                    posicao++;
+                }
+                return posicao;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return proxima < entradasUsadas;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (modificacoes != modificacoesEsperadas) {
+                    throw new ConcurrentModificationException();
+                }
+                if (proxima >= entradasUsadas) {
+                    throw new NoSuchElementException();
+                }
+                V valor = (V) valores[proxima];
+                proxima = avancar(proxima + 1);
+                return valor;
+            }
+        };
+    }
+
+    private int posicaoDaEntrada(long chave) {
+        int mascara = tabela.length - 1;
+        int slot = espalhar(chave);
+        while (true) {
+            int referencia = tabela[slot];
+            if (referencia == 0) {
+                return -1;
+            }
+            int posicao = referencia - 1;
+            if (chaves[posicao] == chave && valores[posicao] != null) {
+                return posicao;
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    private void inserirNaTabela(long chave, int posicao) {
+        int mascara = tabela.length - 1;
+        int slot = espalhar(chave);
+        while (tabela[slot] != 0) {
+            slot = (slot + 1) & mascara;
+        }
+        tabela[slot] = posicao + 1;
+    }
+
+    private int espalhar(long chave) {
+        int h = (int) (chave ^ (chave >>> 32)) * 0x9E3779B9;
+        return h >>> (32 - bitsTabela);
+    }
+
+    private void crescer() {
+        int novaCapacidade = chaves.length * 2;
+        chaves = Arrays.copyOf(chaves, novaCapacidade);
+        valores = Arrays.copyOf(valores, novaCapacidade);
+        redimensionarTabela(novaCapacidade);
+        reindexar();
+    }
+
+    // Move as entradas vivas para o início dos arrays, preservando a ordem.
+    private void compactar() {
+        int destino = 0;
+        for (int origem = 0; origem < entradasUsadas; origem++) {
+            if (valores[origem] != null) {
+                chaves[destino] = chaves[origem];
+                valores[destino] = valores[origem];
+                destino++;
+            }
+        }
+        Arrays.fill(valores, destino, entradasUsadas, null);
+        entradasUsadas = destino;
+        modificacoes++;
+        Arrays.fill(tabela, 0);
+        reindexar();
+    }
+
+    private void reindexar() {
+        for (int posicao = 0; posicao < entradasUsadas; posicao++) {
+            if (valores[posicao] != null) {
+                inserirNaTabela(chaves[posicao], posicao);
+            }
+        }
+    }
+
+    // Tabela com pelo menos o dobro de slots das entradas, para manter as sondagens curtas.
+    private void redimensionarTabela(int capacidadeEntradas) {
+        int slots = Integer.highestOneBit(capacidadeEntradas - 1) << 2;
+        bitsTabela = Integer.numberOfTrailingZeros(slots);
+        tabela = new int[slots];
+    }
+}
\ No newline at end of file
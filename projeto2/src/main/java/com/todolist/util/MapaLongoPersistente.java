@@ -0,0 +1,288 @@
+package main.java.com.todolist.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Mapa imutável de chaves {@code long} não negativas, iterado em ordem crescente de chave.
+ * <p>
+ * É uma trie de 32 posições por nó indexada pelos bits da chave. {@link #comValor} e
+ * {@link #semValor} não alteram o mapa: devolvem um novo que copia só os nós do caminho até a
+ * chave (O(log32 n)) e compartilha todos os demais com o original. Assim, cada versão continua
+ * válida enquanto for referenciada e pode ser lida de qualquer thread sem travas. Não aceita
+ * valores nulos.
+ */
+public final class MapaLongoPersistente<V> implements Iterable<V> {
+
+    private static final int BITS = 5;
+    private static final int LARGURA = 1 << BITS;
+    private static final int MASCARA = LARGURA - 1;
+    // Com este deslocamento a raiz já cobre todas as chaves não negativas.
+    private static final int DESLOCAMENTO_MAXIMO = 60;
+
+    private static final MapaLongoPersistente<Object> VAZIO = new MapaLongoPersistente<>(null, 0, 0);
+
+    // Os nós internos guardam nós filhos e as folhas (deslocamento 0) guardam os valores.
+    private final Object[] raiz;
+    private final int deslocamento;
+    private final int tamanho;
+
+    private MapaLongoPersistente(Object[] raiz, int deslocamento, int tamanho) {
+        this.raiz = raiz;
+        this.deslocamento = deslocamento;
+        this.tamanho = tamanho;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> MapaLongoPersistente<V> vazio() {
+        return (MapaLongoPersistente<V>) VAZIO;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        if (chave < 0 || !cabe(chave, deslocamento)) {
+            return null;
+        }
+        Object[] no = raiz;
+        for (int nivel = deslocamento; no != null && nivel > 0; nivel -= BITS) {
+            no = (Object[]) no[indice(chave, nivel)];
+        }
+        return no != null ? (V) no[indice(chave, 0)] : null;
+    }
+
+    /**
+     * @return Um mapa igual a este, mas com o valor associado à chave.
+     */
+    public MapaLongoPersistente<V> comValor(long chave, V valor) {
+        if (valor == null) {
+            throw new NullPointerException("MapaLongoPersistente não aceita valores nulos.");
+        }
+        verificarChave(chave);
+        Object[] novaRaiz = raiz;
+        int novoDeslocamento = deslocamento;
+        while (!cabe(chave, novoDeslocamento)) {
+            if (novaRaiz != null) {
+                Object[] acima = new Object[LARGURA];
+                acima[0] = novaRaiz;
+                novaRaiz = acima;
+            }
+            novoDeslocamento += BITS;
+        }
+        int novoTamanho = get(chave) == null ? tamanho + 1 : tamanho;
+        return new MapaLongoPersistente<>(copiarCaminho(novaRaiz, novoDeslocamento, chave, valor), novoDeslocamento, novoTamanho);
+    }
+
+    /**
+     * @return Um mapa igual a este, mas sem a chave; ou este mesmo, se ela não existir.
+     */
+    public MapaLongoPersistente<V> semValor(long chave) {
+        if (get(chave) == null) {
+            return this;
+        }
+        return new MapaLongoPersistente<>(copiarCaminho(raiz, deslocamento, chave, null), deslocamento, tamanho - 1);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterador<>(raiz, deslocamento);
+    }
+
+    /**
+     * Copia até {@code limite} valores com chave maior que {@code chave}, em ordem de chave. Desce
+     * direto até a primeira chave seguinte, então custa O(log32 n + limite).
+     */
+    public List<V> valoresApos(long chave, int limite) {
+        List<V> resultado = new ArrayList<>(Math.min(limite, tamanho));
+        if (chave == Long.MAX_VALUE || !cabe(chave + 1, deslocamento)) {
+            return resultado;
+        }
+        Iterador<V> iterador = new Iterador<>(raiz, deslocamento, Math.max(0, chave + 1));
+        while (iterador.hasNext() && resultado.size() < limite) {
+            resultado.add(iterador.next());
+        }
+        return resultado;
+    }
+
+    public Stream<V> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator<V> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    // Copia os nós do caminho até a chave; um nó que fica vazio ao remover é descartado (null).
+    private static Object[] copiarCaminho(Object[] no, int nivel, long chave, Object valor) {
+        int i = indice(chave, nivel);
+        Object[] copia = no != null ? no.clone() : new Object[LARGURA];
+        if (nivel == 0) {
+            copia[i] = valor;
+        } else {
+            copia[i] = copiarCaminho((Object[]) copia[i], nivel - BITS, chave, valor);
+        }
+        if (valor == null && copia[i] == null && vazio(copia)) {
+            return null;
+        }
+        return copia;
+    }
+
+    private static boolean vazio(Object[] no) {
+        for (Object item : no) {
+            if (item != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indice(long chave, int nivel) {
+        return (int) (chave >>> nivel) & MASCARA;
+    }
+
+    private static boolean cabe(long chave, int deslocamento) {
+        return deslocamento >= DESLOCAMENTO_MAXIMO || chave < 1L << (deslocamento + BITS);
+    }
+
+    private static void verificarChave(long chave) {
+        if (chave < 0) {
+            throw new IllegalArgumentException("Chave negativa: " + chave);
+        }
+    }
+
+    /**
+     * Monta um mapa a partir de chaves inseridas uma a uma sem copiar nós, já que nenhum deles
+     * foi compartilhado ainda. Não pode ser usado depois de {@link #construir()}.
+     */
+    public static final class Construtor<V> {
+        private Object[] raiz;
+        private int deslocamento;
+        private int tamanho;
+        private boolean construido;
+
+        public Construtor<V> adicionar(long chave, V valor) {
+            if (construido) {
+                throw new IllegalStateException("Mapa já construído.");
+            }
+            if (valor == null) {
+                throw new NullPointerException("MapaLongoPersistente não aceita valores nulos.");
+            }
+            verificarChave(chave);
+            if (raiz == null) {
+                raiz = new Object[LARGURA];
+            }
+            while (!cabe(chave, deslocamento)) {
+                Object[] acima = new Object[LARGURA];
+                acima[0] = raiz;
+                raiz = acima;
+                deslocamento += BITS;
+            }
+            Object[] no = raiz;
+            for (int nivel = deslocamento; nivel > 0; nivel -= BITS) {
+                int i = indice(chave, nivel);
+                if (no[i] == null) {
+                    no[i] = new Object[LARGURA];
+                }
+                no = (Object[]) no[i];
+            }
+            int i = indice(chave, 0);
+            if (no[i] == null) {
+                tamanho++;
+            }
+            no[i] = valor;
+            return this;
+        }
+
+        public MapaLongoPersistente<V> construir() {
+            construido = true;
+            return tamanho == 0 ? vazio() : new MapaLongoPersistente<>(raiz, deslocamento, tamanho);
+        }
+    }
+
+    // Percurso em profundidade, da esquerda para a direita: as chaves saem em ordem crescente.
+    private static final class Iterador<V> implements Iterator<V> {
+        private final Object[][] nos;
+        private final int[] posicoes;
+        private int profundidade;
+        private Object proximo;
+
+        Iterador(Object[] raiz, int deslocamento) {
+            this(raiz, deslocamento, 0L);
+        }
+
+        // Começa na primeira chave maior ou igual a inicio, que deve caber na capacidade da raiz.
+        Iterador(Object[] raiz, int deslocamento, long inicio) {
+            int niveis = deslocamento / BITS + 1;
+            this.nos = new Object[niveis][];
+            this.posicoes = new int[niveis];
+            this.nos[0] = raiz;
+            this.profundidade = raiz != null ? 0 : -1;
+            for (int nivel = deslocamento; profundidade >= 0; nivel -= BITS) {
+                int i = indice(inicio, nivel);
+                Object filho = nivel > 0 ? nos[profundidade][i] : null;
+                if (filho == null) {
+                    // Na folha, ou numa subárvore vazia: o percurso segue daqui, já depois de inicio.
+                    posicoes[profundidade] = i;
+                    break;
+                }
+                posicoes[profundidade] = i + 1;
+                profundidade++;
+                nos[profundidade] = (Object[]) filho;
+            }
+            avancar();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return proximo != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (proximo == null) {
+                throw new NoSuchElementException();
+            }
+            V atual = (V) proximo;
+            avancar();
+            return atual;
+        }
+
+        private void avancar() {
+            proximo = null;
+            while (profundidade >= 0) {
+                int i = posicoes[profundidade];
+                if (i == LARGURA) {
+                    profundidade--;
+                    continue;
+                }
+                posicoes[profundidade] = i + 1;
+                Object item = nos[profundidade][i];
+                if (item == null) {
+                    continue;
+                }
+                if (profundidade == nos.length - 1) {
+                    proximo = item;
+                    return;
+                }
+                profundidade++;
+                nos[profundidade] = (Object[]) item;
+                posicoes[profundidade] = 0;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+import main.java.com.todolist.service.GerenciadorTarefasConcorrente;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GerenciadorTarefasConcorrenteTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERACOES_POR_THREAD = 2_000;
+
+    // Persistência em memória que guarda apenas a última lista salva.
+    private static class PersistenciaEmMemoria implements PersistenciaTarefas {
+        private volatile List<Tarefa> ultimaGravacao = new ArrayList<>();
+
+        @Override
+        public void salvar(List<Tarefa> tarefas) {
+            ultimaGravacao = new ArrayList<>(tarefas);
+        }
+
+        @Override
+        public List<Tarefa> carregar() {
+            return new ArrayList<>(ultimaGravacao);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter estado consistente sob escrita concorrente de várias threads")
+    void operacoesConcorrentes_DevemManterIdsUnicosEContagensConsistentes() throws Exception {
+        PersistenciaEmMemoria persistencia = new PersistenciaEmMemoria();
+        GerenciadorTarefasConcorrente gerenciador = new GerenciadorTarefasConcorrente(persistencia);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<List<Long>>> resultados = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            resultados.add(executor.submit(() -> {
+                largada.await();
+                List<Long> mantidas = new ArrayList<>();
+                for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                    Tarefa tarefa = gerenciador.adicionarTarefa("Tarefa " + i, null, null);
+                    if (i % 3 == 0) {
+                        assertTrue(gerenciador.excluirTarefa(tarefa.getId()));
+                    } else {
+                        if (i % 3 == 1) {
+                            assertTrue(gerenciador.marcarComoConcluida(tarefa.getId()));
+                        }
+                        assertTrue(gerenciador.atualizarTarefa(tarefa.getId(), "Atualizada " + i, "desc", null));
+                        mantidas.add(tarefa.getId());
+                    }
+                    gerenciador.listarPendentes();
+                }
+                return mantidas;
+            }));
+        }
+        largada.countDown();
+
+        Set<Long> esperadas = new HashSet<>();
+        for (Future<List<Long>> resultado : resultados) {
+            for (Long id : resultado.get(60, TimeUnit.SECONDS)) {
+                assertTrue(esperadas.add(id), "IDs não podem se repetir entre threads");
+            }
+        }
+        executor.shutdown();
+
+        List<Tarefa> todas = gerenciador.listarTodas();
+        assertEquals(esperadas.size(), todas.size());
+        long concluidas = todas.stream().filter(t -> t.getStatus() == StatusTarefa.CONCLUIDA).count();
+        assertEquals(concluidas, gerenciador.contarPorStatus(StatusTarefa.CONCLUIDA));
+        assertEquals(todas.size() - concluidas, gerenciador.contarPorStatus(StatusTarefa.PENDENTE));
+        assertTrue(todas.stream().allMatch(t -> t.getTitulo().startsWith("Atualizada")));
+
+        assertEquals(todas.size(), persistencia.carregar().size(), "Última gravação coalescida deve conter o estado final");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GerenciadorTarefasGravacaoTest {
+
+    private static final int THREADS = 8;
+
+    // Segura a primeira gravação até o teste liberá-la.
+    private static class PersistenciaLenta implements PersistenciaTarefas {
+        final CountDownLatch primeiraIniciada = new CountDownLatch(1);
+        final CountDownLatch liberar = new CountDownLatch(1);
+        final AtomicInteger gravacoes = new AtomicInteger();
+        private volatile List<Tarefa> ultimaGravacao = new ArrayList<>();
+
+        @Override
+        public void salvar(List<Tarefa> tarefas) {
+            if (gravacoes.incrementAndGet() == 1) {
+                primeiraIniciada.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ultimaGravacao = new ArrayList<>(tarefas);
+        }
+
+        @Override
+        public List<Tarefa> carregar() {
+            return new ArrayList<>(ultimaGravacao);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar fora da trava e agrupar numa só gravação as alterações que esperavam a anterior")
+    void alteracoesConcorrentes_DevemSerAgrupadas() throws Exception {
+        PersistenciaLenta persistencia = new PersistenciaLenta();
+        GerenciadorTarefas gerenciador = new GerenciadorTarefas(persistencia);
+        gerenciador.aguardarCarregamento();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?> primeira = executor.submit(() -> gerenciador.adicionarTarefa("Tarefa 0", null, null));
+            assertTrue(persistencia.primeiraIniciada.await(10, TimeUnit.SECONDS));
+
+            List<Future<?>> demais = new ArrayList<>();
+            for (int i = 1; i < THREADS; i++) {
+                String titulo = "Tarefa " + i;
+                demais.add(executor.submit(() -> gerenciador.adicionarTarefa(titulo, null, null)));
+            }
+            // As alterações entram mesmo com a gravação presa, porque ela não segura o gerenciador.
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (gerenciador.listarTodas().size() < THREADS && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            assertEquals(THREADS, gerenciador.listarTodas().size());
+
+            persistencia.liberar.countDown();
+            primeira.get(10, TimeUnit.SECONDS);
+            for (Future<?> futuro : demais) {
+                futuro.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, persistencia.gravacoes.get());
+        assertEquals(THREADS, persistencia.carregar().size());
+    }
+
+    @Test
+    @DisplayName("A lista entregue à persistência não deve mudar com as alterações seguintes")
+    void salvar_DeveReceberCopiasDasTarefas() {
+        PersistenciaLenta persistencia = new PersistenciaLenta();
+        persistencia.liberar.countDown();
+        GerenciadorTarefas gerenciador = new GerenciadorTarefas(persistencia);
+        Tarefa tarefa = gerenciador.adicionarTarefa("Comprar pão", null, null);
+        List<Tarefa> gravada = persistencia.carregar();
+
+        gerenciador.atualizarTarefa(tarefa.getId(), "Comprar pão integral", "Padaria", null);
+        gerenciador.marcarComoConcluida(tarefa.getId());
+
+        assertEquals("Comprar pão", gravada.get(0).getTitulo());
+        assertNull(gravada.get(0).getDescricao());
+        assertEquals(StatusTarefa.PENDENTE, gravada.get(0).getStatus());
+        assertEquals("Comprar pão integral", persistencia.carregar().get(0).getTitulo());
+    }
+}
\ No newline at end of file
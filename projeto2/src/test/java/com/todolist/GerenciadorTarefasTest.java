@@ -2,8 +2,17 @@ package test.java.com.todolist;
 
 import com.example.todolist.domain.StatusTarefa;
 import com.example.todolist.domain.Tarefa;
+import com.example.todolist.eventos.Assinatura;
+import com.example.todolist.eventos.EventoTarefa;
+import com.example.todolist.eventos.TipoEvento;
+import com.example.todolist.metricas.ColetorMetricas;
+import com.example.todolist.metricas.OperacaoMedida;
 import com.example.todolist.persistence.PersistenciaException;
+import com.example.todolist.persistence.PersistenciaIncremental;
+import com.example.todolist.persistence.PersistenciaJson;
 import com.example.todolist.persistence.PersistenciaTarefas;
+import com.example.todolist.service.InstantaneoTarefas;
+import com.example.todolist.service.PaginaTarefas;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,10 +23,15 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -255,4 +269,246 @@ class GerenciadorTarefasTest {
 
         verify(persistenciaMock, times(1)).salvar(anyList());
     }
+
+    @Test
+    @DisplayName("Deve manter listas e contagens por status atualizadas")
+    void listarPorStatus_DeveRefletirMudancasDeStatusEExclusoes() {
+        Tarefa t1 = gerenciador.adicionarTarefa("Tarefa 1", null, null);
+        Tarefa t2 = gerenciador.adicionarTarefa("Tarefa 2", null, null);
+        List<Tarefa> pendentes = gerenciador.listarPendentes();
+        List<Tarefa> concluidas = gerenciador.listarConcluidas();
+
+        gerenciador.marcarComoConcluida(t1.getId());
+        gerenciador.excluirTarefa(t2.getId());
+
+        assertEquals(0, gerenciador.contarPorStatus(StatusTarefa.PENDENTE));
+        assertEquals(1, gerenciador.contarPorStatus(StatusTarefa.CONCLUIDA));
+        assertTrue(pendentes.isEmpty(), "Visão de pendentes deveria refletir as alterações");
+        assertEquals(t1.getId(), concluidas.get(0).getId());
+        assertThrows(UnsupportedOperationException.class, () -> concluidas.remove(0));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar alterações na gravação adiada até o flush")
+    void gravacaoAdiada_DeveGravarUmaVezNoFlush() throws PersistenciaException {
+        GerenciadorTarefas adiado = GerenciadorTarefas.comGravacaoAdiada(persistenciaMock, Duration.ofHours(1), 1_000);
+
+        Tarefa t1 = adiado.adicionarTarefa("Tarefa 1", null, null);
+        adiado.adicionarTarefa("Tarefa 2", null, null);
+        adiado.marcarComoConcluida(t1.getId());
+        verify(persistenciaMock, never()).salvar(anyList());
+
+        adiado.flush();
+        adiado.close();
+
+        verify(persistenciaMock, times(1)).salvar(anyList());
+    }
+
+    @Test
+    @DisplayName("Gravação adiada não deve trocar os registros incrementais por gravações completas")
+    void gravacaoAdiada_ComPersistenciaIncremental_DeveRegistrarOperacoes() throws PersistenciaException {
+        PersistenciaIncremental incremental = mock(PersistenciaIncremental.class);
+        GerenciadorTarefas adiado = GerenciadorTarefas.comGravacaoAdiada(incremental, Duration.ofHours(1), 1_000);
+
+        Tarefa t1 = adiado.adicionarTarefa("Tarefa 1", null, null);
+        adiado.marcarComoConcluida(t1.getId());
+        adiado.flush();
+        adiado.close();
+
+        verify(incremental).registrarInclusao(any(Tarefa.class));
+        verify(incremental).registrarStatus(t1.getId(), StatusTarefa.CONCLUIDA);
+        verify(incremental, never()).salvar(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar operações em lote com uma única gravação cada")
+    void operacoesEmLote_DevemGravarUmaVezPorLote() throws PersistenciaException {
+        List<Tarefa> adicionadas = gerenciador.adicionarEmLote(Arrays.asList(
+                new Tarefa("Tarefa 1", null, null),
+                new Tarefa("Tarefa 2", null, null),
+                new Tarefa("Tarefa 3", null, null)));
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), Arrays.asList(adicionadas.get(0).getId(), adicionadas.get(1).getId(), adicionadas.get(2).getId()));
+        assertEquals(2, gerenciador.marcarVariasComoConcluidas(Arrays.asList(1L, 2L, 999L)));
+        assertEquals(1, gerenciador.excluirEmLote(t -> t.getStatus() == StatusTarefa.PENDENTE));
+        assertEquals(2, gerenciador.excluirEmLote(Arrays.asList(1L, 2L)));
+        assertTrue(gerenciador.listarTodas().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> gerenciador.adicionarEmLote(Arrays.asList(new Tarefa("Ok", null, null), new Tarefa(" ", null, null))));
+        assertTrue(gerenciador.listarTodas().isEmpty(), "Lote inválido não deveria adicionar nenhuma tarefa");
+
+        verify(persistenciaMock, times(4)).salvar(anyList());
+    }
+
+    @Test
+    @DisplayName("Iterador da visão por status deve percorrer várias páginas e falhar se o status mudar")
+    void listarPorStatus_IteradorDevePaginarSemCopiar() {
+        List<Tarefa> novas = new ArrayList<>();
+        for (int i = 1; i <= 2_500; i++) {
+            novas.add(new Tarefa("Tarefa " + i, null, null));
+        }
+        gerenciador.adicionarEmLote(novas);
+        gerenciador.excluirTarefa(10L);
+
+        long esperado = 1;
+        int percorridas = 0;
+        for (Tarefa tarefa : gerenciador.listarPendentes()) {
+            esperado = esperado == 10L ? 11L : esperado;
+            assertEquals(esperado++, tarefa.getId());
+            percorridas++;
+        }
+        assertEquals(2_499, percorridas);
+
+        Iterator<Tarefa> iterador = gerenciador.listarPendentes().iterator();
+        gerenciador.marcarComoConcluida(1L);
+        assertThrows(ConcurrentModificationException.class, iterador::hasNext);
+    }
+
+    @Test
+    @DisplayName("Deve consultar tarefas por período de vencimento e atrasadas")
+    void listarPorVencimento_DeveAcompanharDatasEStatus() {
+        LocalDate hoje = LocalDate.of(2024, 5, 10);
+        Tarefa atrasada = gerenciador.adicionarTarefa("Atrasada", null, hoje.minusDays(3));
+        Tarefa concluidaAtrasada = gerenciador.adicionarTarefa("Concluída", null, hoje.minusDays(1));
+        Tarefa semana = gerenciador.adicionarTarefa("Semana", null, hoje.plusDays(2));
+        Tarefa semData = gerenciador.adicionarTarefa("Sem data", null, null);
+        gerenciador.marcarComoConcluida(concluidaAtrasada.getId());
+
+        assertEquals(List.of(atrasada), gerenciador.listarAtrasadas(hoje));
+        assertEquals(List.of(semana), gerenciador.listarPorVencimento(hoje, hoje.plusDays(6), StatusTarefa.PENDENTE));
+        assertEquals(List.of(atrasada, concluidaAtrasada, semana), gerenciador.listarPorVencimento(null, hoje.plusDays(6)));
+        assertEquals(List.of(semData), gerenciador.listarSemVencimento(StatusTarefa.PENDENTE));
+
+        gerenciador.atualizarTarefa(semana.getId(), "Semana", null, hoje.minusDays(5));
+        gerenciador.excluirTarefa(atrasada.getId());
+
+        assertEquals(List.of(semana), gerenciador.listarAtrasadas(hoje));
+    }
+
+    @Test
+    @DisplayName("Deve buscar por palavras ignorando acentos e aceitando prefixo")
+    void buscarPorTexto_DeveUsarIndiceAtualizado() {
+        Tarefa pao = gerenciador.adicionarTarefa("Comprar pão", "Na padaria da esquina", null);
+        Tarefa cafe = gerenciador.adicionarTarefa("Comprar café", "Padaria ou mercado", null);
+        gerenciador.adicionarTarefa("Pagar conta", null, null);
+
+        assertEquals(List.of(pao, cafe), gerenciador.buscarPorTexto("PADARIA"));
+        assertEquals(List.of(pao), gerenciador.buscarPorTexto("comprar pao"));
+        assertEquals(List.of(cafe), gerenciador.buscarPorTexto("comprar caf"));
+        assertTrue(gerenciador.buscarPorTexto("comprar conta").isEmpty());
+
+        gerenciador.atualizarTarefa(cafe.getId(), "Comprar chá", null, null);
+        gerenciador.excluirTarefa(pao.getId());
+
+        assertTrue(gerenciador.buscarPorTexto("padaria").isEmpty());
+        assertEquals(List.of(cafe), gerenciador.buscarPorTexto("cha"));
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor sem repetir nem pular tarefas após alterações")
+    void listarPagina_DeveContinuarDoCursorMesmoComAlteracoes() {
+        for (int i = 1; i <= 5; i++) {
+            gerenciador.adicionarTarefa("Tarefa " + i, null, null);
+        }
+
+        PaginaTarefas primeira = gerenciador.listarPagina(PaginaTarefas.INICIO, 2);
+        gerenciador.excluirTarefa(1L);
+        gerenciador.excluirTarefa(3L);
+        Tarefa nova = gerenciador.adicionarTarefa("Tarefa 6", null, null);
+        PaginaTarefas segunda = gerenciador.listarPagina(primeira.getProximoCursor(), 2);
+        PaginaTarefas terceira = gerenciador.listarPagina(segunda.getProximoCursor(), 2);
+
+        assertEquals(2L, primeira.getProximoCursor());
+        assertTrue(primeira.temMais());
+        assertEquals(List.of(4L, 5L), List.of(segunda.getTarefas().get(0).getId(), segunda.getTarefas().get(1).getId()));
+        assertEquals(List.of(nova), terceira.getTarefas());
+        assertFalse(terceira.temMais());
+        assertEquals(4, gerenciador.streamTodas().count());
+    }
+
+    @Test
+    @DisplayName("Deve medir operações e registrar falhas de gravação")
+    void metricas_DevemContarOperacoesEFalhas() throws PersistenciaException {
+        ColetorMetricas coletor = new ColetorMetricas();
+        GerenciadorTarefas medido = new GerenciadorTarefas(persistenciaMock, coletor);
+        doThrow(new PersistenciaException("disco cheio")).when(persistenciaMock).salvar(anyList());
+
+        Tarefa tarefa = medido.adicionarTarefa("Tarefa 1", null, null);
+        medido.buscarTarefaPorId(tarefa.getId());
+        medido.buscarTarefaPorId(999L);
+
+        assertEquals(1, coletor.de(OperacaoMedida.ADICIONAR_TAREFA).getExecucoes());
+        assertEquals(2, coletor.de(OperacaoMedida.BUSCAR_POR_ID).getExecucoes());
+        assertEquals(1, coletor.de(OperacaoMedida.PERSISTENCIA_CARREGAR).getExecucoes());
+        assertEquals(1, coletor.de(OperacaoMedida.PERSISTENCIA_SALVAR).getFalhas());
+        assertTrue(coletor.de(OperacaoMedida.PERSISTENCIA_SALVAR).getUltimoErro().contains("disco cheio"));
+        assertTrue(coletor.relatorio().contains("ADICIONAR_TAREFA"));
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar textos repetidos e preservar a data de vencimento")
+    void adicionarTarefa_ComTextosRepetidos_DeveCompartilharInstancias() {
+        LocalDate vencimento = LocalDate.of(2025, 12, 31);
+        Tarefa primeira = gerenciador.adicionarTarefa("Pagar contas", new String("Modelo mensal"), vencimento);
+        Tarefa segunda = gerenciador.adicionarTarefa(new String("Pagar contas"), new String("Modelo mensal"), null);
+
+        assertSame(primeira.getTitulo(), segunda.getTitulo());
+        assertSame(primeira.getDescricao(), segunda.getDescricao());
+        assertEquals(vencimento, primeira.getDataVencimento());
+        assertNull(segunda.getDataVencimento());
+    }
+
+    @Test
+    @DisplayName("Deve publicar os eventos de alteração em ordem, com a tarefa antes e depois")
+    void assinarEventos_DeveReceberCriacaoAlteracoesEExclusao() {
+        List<EventoTarefa> recebidos = new CopyOnWriteArrayList<>();
+        Tarefa tarefa;
+        try (Assinatura assinatura = gerenciador.assinarEventos(recebidos::add)) {
+            tarefa = gerenciador.adicionarTarefa("Comprar pão", null, null);
+            gerenciador.atualizarTarefa(tarefa.getId(), "Comprar pão integral", null, null);
+            gerenciador.marcarComoConcluida(tarefa.getId());
+            gerenciador.marcarComoConcluida(tarefa.getId());
+            gerenciador.excluirTarefa(tarefa.getId());
+
+            assertTrue(assinatura.aguardarEntrega(Duration.ofSeconds(5)));
+            assertEquals(0, assinatura.getDescartados());
+        }
+
+        assertEquals(4, recebidos.size());
+        assertEquals(TipoEvento.CRIADA, recebidos.get(0).getTipo());
+        assertNull(recebidos.get(0).getAntes());
+        assertEquals(TipoEvento.ATUALIZADA, recebidos.get(1).getTipo());
+        assertEquals("Comprar pão", recebidos.get(1).getAntes().getTitulo());
+        assertEquals("Comprar pão integral", recebidos.get(1).getDepois().getTitulo());
+        assertEquals(TipoEvento.STATUS_ALTERADO, recebidos.get(2).getTipo());
+        assertEquals(StatusTarefa.PENDENTE, recebidos.get(2).getAntes().getStatus());
+        assertEquals(StatusTarefa.CONCLUIDA, recebidos.get(2).getDepois().getStatus());
+        assertEquals(TipoEvento.EXCLUIDA, recebidos.get(3).getTipo());
+        assertNull(recebidos.get(3).getDepois());
+        assertEquals(tarefa.getId(), recebidos.get(3).getIdTarefa());
+        assertTrue(recebidos.get(0).getSequencia() < recebidos.get(3).getSequencia());
+    }
+
+    @Test
+    @DisplayName("Deve manter o instantâneo inalterado enquanto o gerenciador recebe alterações")
+    void instantaneo_DeveOferecerVisaoConsistenteDoMomento() {
+        Tarefa pao = gerenciador.adicionarTarefa("Comprar pão", null, null);
+        Tarefa contas = gerenciador.adicionarTarefa("Pagar contas", null, null);
+
+        InstantaneoTarefas antes = gerenciador.instantaneo();
+        gerenciador.marcarComoConcluida(pao.getId());
+        gerenciador.atualizarTarefa(contas.getId(), "Pagar contas de luz", null, null);
+        gerenciador.excluirTarefa(contas.getId());
+        gerenciador.adicionarTarefa("Lavar o carro", null, null);
+        InstantaneoTarefas depois = gerenciador.instantaneo();
+
+        assertEquals(2, antes.contar());
+        assertEquals(StatusTarefa.PENDENTE, antes.buscarPorId(pao.getId()).orElseThrow().getStatus());
+        assertEquals("Pagar contas", antes.buscarPorId(contas.getId()).orElseThrow().getTitulo());
+        assertEquals(2, depois.contar());
+        assertEquals(1, depois.listarPorStatus(StatusTarefa.CONCLUIDA).size());
+        assertFalse(depois.buscarPorId(contas.getId()).isPresent());
+        assertTrue(depois.getVersao() > antes.getVersao());
+        assertThrows(UnsupportedOperationException.class, () -> antes.buscarPorId(pao.getId()).orElseThrow().marcarComoConcluida());
+    }
 }
\ No newline at end of file
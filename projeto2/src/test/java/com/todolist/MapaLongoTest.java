@@ -0,0 +1,167 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.util.MapaLongo;
+import main.java.com.todolist.util.MapaLongoPersistente;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapaLongoTest {
+
+    @Test
+    @DisplayName("Deve manter a ordem de inserção, inclusive ao substituir o valor de uma chave")
+    void put_DeveManterOrdemDeInsercao() {
+        MapaLongo<String> mapa = new MapaLongo<>();
+        mapa.put(30L, "c");
+        mapa.put(10L, "a");
+        mapa.put(20L, "b");
+
+        assertEquals("a", mapa.put(10L, "A"));
+
+        assertEquals(Arrays.asList("c", "A", "b"), mapa.copiarValores());
+        assertEquals(3, mapa.size());
+        assertThrows(NullPointerException.class, () -> mapa.put(40L, null));
+    }
+
+    @Test
+    @DisplayName("Remoção deve deixar um buraco que não aparece na iteração nem nas buscas")
+    void remove_DeveDeixarBuracoInvisivel() {
+        MapaLongo<String> mapa = new MapaLongo<>();
+        for (long chave = 1; chave <= 5; chave++) {
+            mapa.put(chave, "v" + chave);
+        }
+
+        assertEquals("v3", mapa.remove(3L));
+        assertNull(mapa.remove(3L));
+
+        assertNull(mapa.get(3L));
+        assertFalse(mapa.containsKey(3L));
+        assertEquals(Arrays.asList("v1", "v2", "v4", "v5"), mapa.copiarValores());
+        assertEquals("v4", mapa.valorNaPosicao(2));
+        assertEquals(Arrays.asList("v4", "v5"), mapa.valoresApos(2L, 10));
+        mapa.put(3L, "novo");
+        assertEquals(Arrays.asList("v1", "v2", "v4", "v5", "novo"), mapa.copiarValores());
+    }
+
+    @Test
+    @DisplayName("Compactação após muitas remoções deve preservar ordem e buscas")
+    void remove_DeveCompactarPreservandoOrdem() {
+        MapaLongo<Long> mapa = new MapaLongo<>();
+        for (long chave = 0; chave < 1_000; chave++) {
+            mapa.put(chave, chave);
+        }
+        for (long chave = 0; chave < 1_000; chave++) {
+            if (chave % 10 != 0) {
+                mapa.remove(chave);
+            }
+        }
+
+        assertEquals(100, mapa.size());
+        for (long chave = 0; chave < 1_000; chave++) {
+            assertEquals(chave % 10 == 0 ? Long.valueOf(chave) : null, mapa.get(chave));
+        }
+        List<Long> esperados = new ArrayList<>();
+        for (long chave = 0; chave < 1_000; chave += 10) {
+            esperados.add(chave);
+        }
+        assertEquals(esperados, mapa.copiarValores());
+        assertEquals(Long.valueOf(500), mapa.valorNaPosicao(50));
+        assertEquals(Arrays.asList(510L, 520L), mapa.valoresApos(505L, 2));
+    }
+
+    @Test
+    @DisplayName("Deve se comportar como um LinkedHashMap em operações aleatórias")
+    void operacoesAleatorias_DevemEquivalerALinkedHashMap() {
+        MapaLongo<Integer> mapa = new MapaLongo<>();
+        Map<Long, Integer> referencia = new LinkedHashMap<>();
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long chave = aleatorio.nextInt(2_000);
+            if (aleatorio.nextInt(3) == 0) {
+                assertEquals(referencia.remove(chave), mapa.remove(chave));
+            } else {
+                assertEquals(referencia.put(chave, i), mapa.put(chave, i));
+            }
+        }
+        assertEquals(referencia.size(), mapa.size());
+        assertEquals(new ArrayList<>(referencia.values()), mapa.copiarValores());
+    }
+
+    @Test
+    @DisplayName("Iterador deve lançar ConcurrentModificationException se o mapa mudar")
+    void iterator_DeveFalharComAlteracaoConcorrente() {
+        MapaLongo<String> mapa = new MapaLongo<>();
+        mapa.put(1L, "a");
+        mapa.put(2L, "b");
+        mapa.put(3L, "c");
+
+        Iterator<String> comInclusao = mapa.iterator();
+        comInclusao.next();
+        mapa.put(4L, "d");
+        assertThrows(ConcurrentModificationException.class, comInclusao::next);
+
+        Iterator<String> comRemocao = mapa.iterator();
+        comRemocao.next();
+        mapa.remove(4L);
+        assertThrows(ConcurrentModificationException.class, comRemocao::next);
+
+        mapa.clear();
+        assertTrue(mapa.isEmpty());
+        assertFalse(mapa.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("MapaLongoPersistente.valoresApos deve começar na chave seguinte, inclusive entre nós vazios")
+    void valoresApos_DeveEquivalerATailMap() {
+        MapaLongoPersistente<Long> mapa = MapaLongoPersistente.vazio();
+        TreeMap<Long, Long> referencia = new TreeMap<>();
+        Random aleatorio = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            // Chaves esparsas, para que subárvores inteiras fiquem vazias.
+            long chave = aleatorio.nextInt(1 << 20);
+            mapa = mapa.comValor(chave, chave);
+            referencia.put(chave, chave);
+        }
+        assertEquals(new ArrayList<>(referencia.values()).subList(0, 10), mapa.valoresApos(-1, 10));
+        for (int i = 0; i < 500; i++) {
+            long chave = aleatorio.nextInt(1 << 21);
+            List<Long> esperados = new ArrayList<>(referencia.tailMap(chave, false).values());
+            assertEquals(esperados.subList(0, Math.min(5, esperados.size())), mapa.valoresApos(chave, 5), "chave " + chave);
+        }
+        assertTrue(mapa.valoresApos(Long.MAX_VALUE, 5).isEmpty());
+        assertTrue(MapaLongoPersistente.<Long>vazio().valoresApos(0, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("MapaLongoPersistente deve aceitar as maiores chaves sem crescer para sempre")
+    void comValor_ComChaveMaxima_DeveTerminar() {
+        MapaLongoPersistente<String> mapa = MapaLongoPersistente.<String>vazio()
+                .comValor(1L, "um")
+                .comValor(Long.MAX_VALUE, "máxima")
+                .comValor(Long.MAX_VALUE - 1, "penúltima");
+        MapaLongoPersistente<String> construido = new MapaLongoPersistente.Construtor<String>()
+                .adicionar(1L, "um")
+                .adicionar(Long.MAX_VALUE, "máxima")
+                .construir();
+
+        assertEquals("máxima", mapa.get(Long.MAX_VALUE));
+        assertEquals("penúltima", mapa.get(Long.MAX_VALUE - 1));
+        assertEquals(Arrays.asList("um", "penúltima", "máxima"), mapa.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList("máxima"), mapa.valoresApos(Long.MAX_VALUE - 1, 5));
+        assertEquals("máxima", construido.get(Long.MAX_VALUE));
+        assertEquals(2, construido.size());
+        assertEquals(2, mapa.semValor(Long.MAX_VALUE - 1).size());
+    }
+}
\ No newline at end of file
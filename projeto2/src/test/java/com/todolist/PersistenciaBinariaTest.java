@@ -0,0 +1,71 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.LeitorBlocos;
+import main.java.com.todolist.persistence.PersistenciaBinaria;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaBinariaTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve abrir rápido pelo cabeçalho e carregar os blocos em segundo plano")
+    void construtor_ComPersistenciaEmBlocos_DeveCarregarEmSegundoPlano() throws PersistenciaException {
+        PersistenciaBinaria binaria = new PersistenciaBinaria(diretorio.resolve("tarefas.bin").toString());
+        List<Tarefa> salvas = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            salvas.add(new Tarefa(id, "Tarefa " + id, null, null, id % 2 == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.PENDENTE));
+        }
+        binaria.salvar(salvas);
+
+        GerenciadorTarefas rapido = new GerenciadorTarefas(binaria);
+
+        assertEquals(10_000, rapido.contarTodas());
+        assertEquals("Tarefa 9999", rapido.buscarTarefaPorId(9_999).orElseThrow().getTitulo());
+        assertEquals(10_001, rapido.adicionarTarefa("Nova", null, null).getId());
+        assertEquals(5_000, rapido.contarPorStatus(StatusTarefa.CONCLUIDA));
+        assertEquals(10_001, rapido.listarTodas().size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidades incompatíveis com o tamanho do arquivo")
+    void quantidadesCorrompidas_DevemLancarPersistenciaException() throws Exception {
+        Path arquivo = diretorio.resolve("tarefas.bin");
+        PersistenciaBinaria binaria = new PersistenciaBinaria(arquivo.toString());
+        binaria.salvar(Arrays.asList(
+                new Tarefa(1L, "Tarefa 1", null, null, StatusTarefa.PENDENTE),
+                new Tarefa(2L, "Tarefa 2", null, null, StatusTarefa.PENDENTE),
+                new Tarefa(3L, "Tarefa 3", null, null, StatusTarefa.PENDENTE)));
+
+        try (RandomAccessFile bruto = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            bruto.seek(32);
+            bruto.write(0x7F);
+        }
+        try (LeitorBlocos leitor = binaria.abrirLeitorBlocos()) {
+            assertThrows(PersistenciaException.class, () -> leitor.lerBloco(0));
+        }
+        assertThrows(PersistenciaException.class, binaria::carregar);
+
+        try (RandomAccessFile bruto = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            bruto.seek(8);
+            bruto.writeLong(Long.reverseBytes((1L << 29) + 1));
+        }
+        assertThrows(PersistenciaException.class, binaria::abrirLeitorBlocos);
+        assertEquals(0, new GerenciadorTarefas(binaria).contarTodas());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaComCache;
+import main.java.com.todolist.persistence.PersistenciaTarefas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaComCacheTest {
+
+    // Backend em memória cuja leitura por ID pode ser segurada até o teste liberar.
+    private static final class BackendLento implements PersistenciaTarefas {
+        final Map<Long, Tarefa> tarefas = new ConcurrentHashMap<>();
+        final CountDownLatch leituraIniciada = new CountDownLatch(1);
+        final CountDownLatch liberarLeitura = new CountDownLatch(1);
+        volatile boolean segurarLeitura = true;
+        volatile int leituras;
+
+        @Override
+        public void salvar(List<Tarefa> lista) {
+            tarefas.clear();
+            lista.forEach(tarefa -> tarefas.put(tarefa.getId(), tarefa));
+        }
+
+        @Override
+        public List<Tarefa> carregar() {
+            return new ArrayList<>(tarefas.values());
+        }
+
+        @Override
+        public Optional<Tarefa> carregarTarefa(long id) {
+            leituras++;
+            Optional<Tarefa> lida = Optional.ofNullable(tarefas.get(id));
+            if (segurarLeitura) {
+                leituraIniciada.countDown();
+                try {
+                    liberarLeitura.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return lida;
+        }
+
+        @Override
+        public void salvarTarefa(Tarefa tarefa) {
+            tarefas.put(tarefa.getId(), tarefa);
+        }
+
+        @Override
+        public void excluirTarefa(long id) {
+            tarefas.remove(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler por ID através do cache e descartar a tarefa usada há mais tempo")
+    void carregarTarefa_DeveAtenderLeiturasRepetidasSemIrAoBackend() throws Exception {
+        BackendLento backend = new BackendLento();
+        backend.segurarLeitura = false;
+        for (long id = 1; id <= 3; id++) {
+            backend.tarefas.put(id, new Tarefa(id, "Tarefa " + id, null, null, StatusTarefa.PENDENTE));
+        }
+        PersistenciaComCache cache = PersistenciaComCache.de(backend, 2);
+
+        assertEquals("Tarefa 1", cache.carregarTarefa(1L).orElseThrow().getTitulo());
+        cache.carregarTarefa(1L);
+        cache.carregarTarefa(2L);
+        cache.carregarTarefa(3L);
+        cache.carregarTarefa(1L);
+        cache.excluirTarefa(3L);
+
+        assertEquals(4, backend.leituras);
+        assertFalse(backend.tarefas.containsKey(3L));
+        assertEquals(1, cache.getAcertos());
+        assertEquals(4, cache.getFalhas());
+        assertEquals(2, cache.getRemocoes());
+        assertEquals(1, cache.getTamanho());
+    }
+
+    @Test
+    @DisplayName("Leitura que perdeu a corrida para uma exclusão não deve voltar a pôr a tarefa no cache")
+    void carregarTarefa_ExcluidaDuranteLeitura_NaoDeveFicarEmCache() throws Exception {
+        BackendLento backend = new BackendLento();
+        backend.tarefas.put(1L, new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE));
+        PersistenciaComCache cache = PersistenciaComCache.de(backend, 10);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Tarefa>> leitura = executor.submit(() -> cache.carregarTarefa(1L));
+            assertTrue(backend.leituraIniciada.await(5, TimeUnit.SECONDS));
+            cache.excluirTarefa(1L);
+            backend.liberarLeitura.countDown();
+
+            assertTrue(leitura.get(5, TimeUnit.SECONDS).isPresent());
+            assertEquals(0, cache.getTamanho());
+            backend.segurarLeitura = false;
+            assertFalse(cache.carregarTarefa(1L).isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Leitura que perdeu a corrida para uma gravação não deve sobrescrever a versão nova no cache")
+    void carregarTarefa_GravadaDuranteLeitura_DeveManterVersaoNova() throws Exception {
+        BackendLento backend = new BackendLento();
+        backend.tarefas.put(1L, new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE));
+        PersistenciaComCache cache = PersistenciaComCache.de(backend, 10);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Tarefa>> leitura = executor.submit(() -> cache.carregarTarefa(1L));
+            assertTrue(backend.leituraIniciada.await(5, TimeUnit.SECONDS));
+            cache.salvarTarefa(new Tarefa(1L, "Comprar pão integral", null, null, StatusTarefa.PENDENTE));
+            backend.liberarLeitura.countDown();
+
+            assertEquals("Comprar pão", leitura.get(5, TimeUnit.SECONDS).orElseThrow().getTitulo());
+            assertEquals("Comprar pão integral", cache.carregarTarefa(1L).orElseThrow().getTitulo());
+            assertEquals(1, backend.leituras);
+            assertEquals(1, cache.getAcertos());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
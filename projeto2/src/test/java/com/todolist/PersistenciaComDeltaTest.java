@@ -0,0 +1,71 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaComDelta;
+import main.java.com.todolist.persistence.PersistenciaJson;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaComDeltaTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve gravar só os campos alterados no delta e reconstruir o estado ao recarregar")
+    void salvarDelta_DeveGravarApenasAlteracoes() throws Exception {
+        String arquivo = diretorio.resolve("tarefas.json").toString();
+        Path delta = diretorio.resolve("tarefas.json.delta");
+        GerenciadorTarefas comDelta = new GerenciadorTarefas(new PersistenciaComDelta(new PersistenciaJson(arquivo), delta.toString()));
+        Tarefa primeira = comDelta.adicionarTarefa("Comprar pão", null, null);
+        Tarefa segunda = comDelta.adicionarTarefa("Pagar contas", null, null);
+        long tamanhoAntes = Files.size(delta);
+
+        comDelta.marcarComoConcluida(primeira.getId());
+        comDelta.excluirTarefa(segunda.getId());
+
+        List<String> linhas = Files.readAllLines(delta);
+        assertEquals("{\"id\":" + primeira.getId() + ",\"status\":\"CONCLUIDA\"}", linhas.get(2));
+        assertEquals("{\"id\":" + segunda.getId() + ",\"excluida\":true}", linhas.get(3));
+        assertTrue(Files.size(delta) - tamanhoAntes < 64);
+        assertFalse(Files.exists(diretorio.resolve("tarefas.json")));
+
+        GerenciadorTarefas recarregado = new GerenciadorTarefas(new PersistenciaComDelta(new PersistenciaJson(arquivo), delta.toString()));
+        assertEquals(1, recarregado.contarTodas());
+        Tarefa lida = recarregado.buscarTarefaPorId(primeira.getId()).orElseThrow();
+        assertEquals(StatusTarefa.CONCLUIDA, lida.getStatus());
+        assertFalse(lida.foiAlterada());
+    }
+
+    @Test
+    @DisplayName("Mesclar deve levar os deltas para a base, que passa a ser lida sem eles")
+    void mesclar_DeveIncorporarDeltasNaBase() throws Exception {
+        String arquivo = diretorio.resolve("tarefas.json").toString();
+        Path delta = diretorio.resolve("tarefas.json.delta");
+        PersistenciaComDelta persistencia = new PersistenciaComDelta(new PersistenciaJson(arquivo), delta.toString());
+        persistencia.salvar(Arrays.asList(new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE)));
+        Tarefa concluida = new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.CONCLUIDA);
+        concluida.marcarComoAlterada();
+        persistencia.salvarDelta(Arrays.asList(concluida), Collections.emptyList());
+        assertEquals(StatusTarefa.PENDENTE, new PersistenciaJson(arquivo).carregar().get(0).getStatus());
+
+        persistencia.mesclar();
+        persistencia.close();
+
+        assertFalse(Files.exists(delta));
+        List<Tarefa> base = new PersistenciaJson(arquivo).carregar();
+        assertEquals(1, base.size());
+        assertEquals(StatusTarefa.CONCLUIDA, base.get(0).getStatus());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaFragmentada;
+import main.java.com.todolist.persistence.PersistenciaJson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaFragmentadaTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static List<Tarefa> tarefas(long primeiro, long ultimo) {
+        List<Tarefa> lista = new ArrayList<>();
+        for (long id = primeiro; id <= ultimo; id++) {
+            lista.add(new Tarefa(id, "Tarefa " + id, null, null, StatusTarefa.PENDENTE));
+        }
+        return lista;
+    }
+
+    private List<String> arquivos() throws IOException {
+        try (Stream<Path> lista = Files.list(diretorio)) {
+            return lista.map(arquivo -> arquivo.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Long> ids(List<Tarefa> lista) {
+        return lista.stream().map(Tarefa::getId).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Deve dividir as tarefas em um arquivo por faixa de IDs e recarregá-las")
+    void salvar_DeveDividirPorFaixaDeIds() throws IOException {
+        new PersistenciaFragmentada(diretorio.toString(), 10).salvar(tarefas(1, 25));
+
+        assertEquals(Arrays.asList("tarefas-00000000.json", "tarefas-00000001.json", "tarefas-00000002.json"), arquivos());
+        List<Tarefa> carregadas = new PersistenciaFragmentada(diretorio.toString(), 10).carregar();
+        assertEquals(ids(tarefas(1, 25)), ids(carregadas));
+    }
+
+    @Test
+    @DisplayName("Deve regravar apenas os fragmentos cujo conteúdo mudou")
+    void salvar_DevePularFragmentosInalterados() throws IOException {
+        PersistenciaFragmentada persistencia = new PersistenciaFragmentada(diretorio.toString(), 10);
+        List<Tarefa> lista = tarefas(1, 25);
+        persistencia.salvar(lista);
+        FileTime antigo = FileTime.fromMillis(0);
+        for (String arquivo : arquivos()) {
+            Files.setLastModifiedTime(diretorio.resolve(arquivo), antigo);
+        }
+
+        lista.get(14).setTitulo("Tarefa 15 alterada");
+        persistencia.salvar(lista);
+
+        assertEquals(antigo, Files.getLastModifiedTime(diretorio.resolve("tarefas-00000000.json")));
+        assertNotEquals(antigo, Files.getLastModifiedTime(diretorio.resolve("tarefas-00000001.json")));
+        assertEquals(antigo, Files.getLastModifiedTime(diretorio.resolve("tarefas-00000002.json")));
+    }
+
+    @Test
+    @DisplayName("Deve redistribuir os arquivos ao carregar com outro tamanho de fragmento")
+    void carregar_ComOutroTamanho_DeveRedistribuir() throws IOException {
+        new PersistenciaFragmentada(diretorio.toString(), 10).salvar(tarefas(1, 25));
+
+        List<Tarefa> carregadas = new PersistenciaFragmentada(diretorio.toString(), 4).carregar();
+
+        assertEquals(ids(tarefas(1, 25)), ids(carregadas));
+        assertEquals(7, arquivos().size());
+        assertEquals(Arrays.asList(4L, 5L, 6L, 7L), ids(tarefasDoArquivo(1)));
+        assertEquals(Arrays.asList(24L, 25L), ids(tarefasDoArquivo(6)));
+    }
+
+    @Test
+    @DisplayName("Salvar sem carregar antes deve apagar fragmentos que ficaram sem tarefas")
+    void salvar_SemCarregar_DeveApagarFragmentosAntigos() throws IOException {
+        new PersistenciaFragmentada(diretorio.toString(), 10).salvar(tarefas(1, 25));
+
+        new PersistenciaFragmentada(diretorio.toString(), 10).salvar(tarefas(1, 5));
+
+        assertEquals(Arrays.asList("tarefas-00000000.json"), arquivos());
+        assertEquals(ids(tarefas(1, 5)), ids(new PersistenciaFragmentada(diretorio.toString(), 10).carregar()));
+    }
+
+    private List<Tarefa> tarefasDoArquivo(long numero) {
+        return new PersistenciaJson(diretorio.resolve(String.format("tarefas-%08d.json", numero)).toString()).carregar();
+    }
+}
\ No newline at end of file
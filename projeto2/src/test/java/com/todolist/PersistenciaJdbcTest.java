@@ -0,0 +1,129 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaJdbc;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Usa o H2 em memória; sem o driver no classpath, os testes são ignorados.
+class PersistenciaJdbcTest {
+
+    private String url;
+    private PersistenciaJdbc persistencia;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(driverDisponivel(), "Driver H2 ausente do classpath.");
+        url = "jdbc:h2:mem:tarefas-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        persistencia = new PersistenciaJdbc(url);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (persistencia != null) {
+            persistencia.close();
+        }
+    }
+
+    private static boolean driverDisponivel() {
+        try {
+            Class.forName("org.h2.Driver");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static List<Tarefa> tarefas(long primeiro, long ultimo) {
+        return LongStream.rangeClosed(primeiro, ultimo)
+                .mapToObj(id -> new Tarefa(id, "Tarefa " + id, null, null, StatusTarefa.PENDENTE))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<Tarefa> lista) {
+        return lista.stream().map(Tarefa::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Deve substituir a tabela ao salvar e carregar em ordem de ID, com todos os campos")
+    void salvar_DeveSubstituirTabelaECarregarEmOrdem() {
+        persistencia.salvar(tarefas(1, 10));
+        persistencia.salvar(Arrays.asList(
+                new Tarefa(7L, "Pagar contas", "Luz e água", null, StatusTarefa.CONCLUIDA),
+                new Tarefa(3L, "Comprar pão", null, LocalDate.of(2025, 1, 31), StatusTarefa.PENDENTE)));
+        persistencia.close();
+
+        List<Tarefa> carregadas = new PersistenciaJdbc(url).carregar();
+
+        assertEquals(Arrays.asList(3L, 7L), ids(carregadas));
+        assertEquals("Comprar pão", carregadas.get(0).getTitulo());
+        assertNull(carregadas.get(0).getDescricao());
+        assertEquals(LocalDate.of(2025, 1, 31), carregadas.get(0).getDataVencimento());
+        assertEquals("Luz e água", carregadas.get(1).getDescricao());
+        assertNull(carregadas.get(1).getDataVencimento());
+        assertEquals(StatusTarefa.CONCLUIDA, carregadas.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Operações incrementais devem alterar só as linhas afetadas")
+    void registrar_DeveAlterarLinhasIndividuais() {
+        persistencia.registrarInclusao(new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE));
+        persistencia.registrarInclusao(new Tarefa(2L, "Pagar contas", null, null, StatusTarefa.PENDENTE));
+        persistencia.registrarAtualizacao(new Tarefa(1L, "Comprar pão integral", "Padaria", LocalDate.of(2025, 2, 1), StatusTarefa.PENDENTE));
+        persistencia.registrarAtualizacao(new Tarefa(3L, "Lavar o carro", null, null, StatusTarefa.PENDENTE));
+        persistencia.registrarStatus(2L, StatusTarefa.CONCLUIDA);
+        persistencia.registrarExclusao(3L);
+
+        Tarefa atualizada = persistencia.carregarTarefa(1L).orElseThrow();
+        assertEquals("Comprar pão integral", atualizada.getTitulo());
+        assertEquals("Padaria", atualizada.getDescricao());
+        assertEquals(LocalDate.of(2025, 2, 1), atualizada.getDataVencimento());
+        assertEquals(StatusTarefa.CONCLUIDA, persistencia.carregarTarefa(2L).orElseThrow().getStatus());
+        assertFalse(persistencia.carregarTarefa(3L).isPresent());
+        assertEquals(Arrays.asList(1L, 2L), ids(persistencia.carregar()));
+    }
+
+    @Test
+    @DisplayName("Operações em lote maiores que um batch devem alcançar todas as linhas")
+    void registrarEmLote_DeveCobrirVariosBatches() {
+        persistencia.registrarInclusaoEmLote(tarefas(1, 2_500));
+        List<Long> pares = LongStream.rangeClosed(1, 2_500).filter(id -> id % 2 == 0).boxed().collect(Collectors.toList());
+        persistencia.registrarStatusEmLote(pares, StatusTarefa.CONCLUIDA);
+        persistencia.registrarExclusaoEmLote(LongStream.rangeClosed(1, 1_200).boxed().collect(Collectors.toList()));
+
+        List<Tarefa> carregadas = persistencia.carregar();
+
+        assertEquals(1_300, carregadas.size());
+        assertEquals(1_201L, carregadas.get(0).getId());
+        assertEquals(650, carregadas.stream().filter(t -> t.getStatus() == StatusTarefa.CONCLUIDA).count());
+    }
+
+    @Test
+    @DisplayName("Uma falha no lote deve desfazer a transação inteira e não expor os parâmetros da URL")
+    void registrarEmLote_ComFalha_DeveDesfazerTudo() {
+        persistencia.registrarInclusao(new Tarefa(5L, "Existente", null, null, StatusTarefa.PENDENTE));
+        List<Tarefa> lote = new ArrayList<>(tarefas(1, 10));
+
+        PersistenciaException erro = assertThrows(PersistenciaException.class, () -> persistencia.registrarInclusaoEmLote(lote));
+
+        assertFalse(erro.getMessage().contains("DB_CLOSE_DELAY"));
+        assertEquals(Arrays.asList(5L), ids(persistencia.carregar()));
+        persistencia.registrarInclusao(new Tarefa(6L, "Depois da falha", null, null, StatusTarefa.PENDENTE));
+        assertEquals(Arrays.asList(5L, 6L), ids(persistencia.carregar()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.Durabilidade;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaJson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaJsonTest {
+
+    @TempDir
+    Path diretorio;
+
+    private Path arquivo() {
+        return diretorio.resolve("tarefas.json");
+    }
+
+    // Produz as tarefas sob demanda, sem lista por trás.
+    private static Iterator<Tarefa> gerarTarefas(int quantidade) {
+        return new Iterator<Tarefa>() {
+            private int proxima = 1;
+
+            @Override
+            public boolean hasNext() {
+                return proxima <= quantidade;
+            }
+
+            @Override
+            public Tarefa next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long id = proxima++;
+                return new Tarefa(id, "Tarefa " + id, id % 2 == 0 ? "Descrição " + id : null,
+                        id % 3 == 0 ? LocalDate.ofEpochDay(20_000 + id) : null,
+                        id % 5 == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.PENDENTE);
+            }
+        };
+    }
+
+    private void gravar(String conteudo) throws Exception {
+        Files.write(arquivo(), conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve gravar do iterador e entregar ao consumidor na mesma ordem, com e sem formatação")
+    void salvarECarregar_EmFluxo_DevemPreservarOrdemECampos() {
+        for (boolean formatado : new boolean[] {true, false}) {
+            PersistenciaJson persistencia = new PersistenciaJson(arquivo().toString(), formatado);
+            persistencia.salvar(gerarTarefas(1_000));
+
+            List<Tarefa> lidas = new ArrayList<>();
+            persistencia.carregar(lidas::add);
+
+            Iterator<Tarefa> esperadas = gerarTarefas(1_000);
+            assertEquals(1_000, lidas.size());
+            for (Tarefa lida : lidas) {
+                Tarefa esperada = esperadas.next();
+                assertEquals(esperada.getId(), lida.getId());
+                assertEquals(esperada.getTitulo(), lida.getTitulo());
+                assertEquals(esperada.getDescricao(), lida.getDescricao());
+                assertEquals(esperada.getDataVencimento(), lida.getDataVencimento());
+                assertEquals(esperada.getStatus(), lida.getStatus());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Formato compacto deve gerar um arquivo menor que o formatado")
+    void salvar_SemFormatacao_DeveGerarArquivoMenor() throws Exception {
+        new PersistenciaJson(arquivo().toString(), true).salvar(gerarTarefas(100));
+        long formatado = Files.size(arquivo());
+        new PersistenciaJson(arquivo().toString(), false).salvar(gerarTarefas(100));
+
+        assertTrue(Files.size(arquivo()) < formatado);
+        assertEquals(100, new PersistenciaJson(arquivo().toString()).carregar().size());
+    }
+
+    @Test
+    @DisplayName("Arquivo ausente, vazio, nulo ou lista vazia devem carregar nenhuma tarefa")
+    void carregar_SemTarefas_DeveRetornarListaVazia() throws Exception {
+        PersistenciaJson persistencia = new PersistenciaJson(arquivo().toString());
+        assertTrue(persistencia.carregar().isEmpty());
+
+        for (String conteudo : new String[] {"", "null", "[]", "  [ ]  "}) {
+            gravar(conteudo);
+            assertTrue(persistencia.carregar().isEmpty(), conteudo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar conteúdo que não é uma lista e listas truncadas, sem perder as tarefas já entregues")
+    void carregar_ComConteudoInvalido_DeveLancarPersistenciaException() throws Exception {
+        PersistenciaJson persistencia = new PersistenciaJson(arquivo().toString());
+
+        gravar("{\"id\":1,\"titulo\":\"Solta\"}");
+        assertThrows(PersistenciaException.class, persistencia::carregar);
+
+        gravar("[{\"id\":1,\"titulo\":\"Comprar pão\",\"status\":\"PENDENTE\"},{\"id\":2,\"tit");
+        List<Tarefa> entregues = new ArrayList<>();
+        assertThrows(PersistenciaException.class, () -> persistencia.carregar(entregues::add));
+        assertEquals(1, entregues.size());
+        assertEquals("Comprar pão", entregues.get(0).getTitulo());
+
+        gravar("[{\"id\":1,\"titulo\":\"Comprar pão\",\"status\":\"PENDENTE\"}, 42]");
+        assertThrows(PersistenciaException.class, persistencia::carregar);
+    }
+
+    @Test
+    @DisplayName("Com fsync por gravação deve substituir o arquivo sem deixar o temporário")
+    void salvar_ComFsync_DeveSubstituirArquivoSemTemporario() throws Exception {
+        PersistenciaJson persistencia = new PersistenciaJson(arquivo().toString(), false, Durabilidade.FSYNC_POR_GRAVACAO);
+        persistencia.salvar(gerarTarefas(10));
+        persistencia.salvar(gerarTarefas(3));
+
+        assertEquals(3, persistencia.carregar().size());
+        assertFalse(Files.exists(diretorio.resolve("tarefas.json.tmp")));
+    }
+
+    @Test
+    @DisplayName("Se o arquivo não puder ser substituído, deve lançar exceção e apagar o temporário")
+    void salvar_ComFalhaAoMover_DeveApagarTemporario() throws Exception {
+        Files.createDirectories(arquivo());
+        Files.write(arquivo().resolve("ocupado"), new byte[] {1});
+        PersistenciaJson persistencia = new PersistenciaJson(arquivo().toString(), false, Durabilidade.FSYNC_POR_GRAVACAO);
+
+        assertThrows(PersistenciaException.class, () -> persistencia.salvar(gerarTarefas(10)));
+
+        assertFalse(Files.exists(diretorio.resolve("tarefas.json.tmp")));
+        assertTrue(Files.exists(arquivo().resolve("ocupado")));
+    }
+}
\ No newline at end of file
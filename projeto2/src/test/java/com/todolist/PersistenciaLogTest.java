@@ -0,0 +1,92 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaLogTest {
+
+    @TempDir
+    Path diretorio;
+
+    private String arquivo() {
+        return diretorio.resolve("tarefas.json").toString();
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar o log ao reabrir, sem snapshot")
+    void carregar_DeveReaplicarLogAoReabrir() {
+        PersistenciaLog log = new PersistenciaLog(arquivo());
+        log.registrarInclusao(new Tarefa(1L, "Comprar pão", null, LocalDate.of(2025, 1, 31), StatusTarefa.PENDENTE));
+        log.registrarInclusao(new Tarefa(2L, "Pagar contas", "Luz", null, StatusTarefa.PENDENTE));
+        log.registrarAtualizacao(new Tarefa(1L, "Comprar pão integral", null, null, StatusTarefa.PENDENTE));
+        log.registrarStatus(2L, StatusTarefa.CONCLUIDA);
+        log.registrarInclusao(new Tarefa(3L, "Lavar o carro", null, null, StatusTarefa.PENDENTE));
+        log.registrarExclusao(3L);
+        log.close();
+
+        List<Tarefa> carregadas = new PersistenciaLog(arquivo()).carregar();
+
+        assertEquals(2, carregadas.size());
+        assertEquals("Comprar pão integral", carregadas.get(0).getTitulo());
+        assertNull(carregadas.get(0).getDataVencimento());
+        assertEquals(StatusTarefa.CONCLUIDA, carregadas.get(1).getStatus());
+        assertEquals("Luz", carregadas.get(1).getDescricao());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a última linha incompleta do log e consolidar o estado")
+    void carregar_DeveDescartarUltimaLinhaIncompleta() throws Exception {
+        PersistenciaLog log = new PersistenciaLog(arquivo());
+        log.registrarInclusao(new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE));
+        log.close();
+        Path caminhoLog = diretorio.resolve("tarefas.json.log");
+        Files.write(caminhoLog, "{\"op\":\"I\",\"t\":{\"id\":2,\"tit".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        PersistenciaLog reaberto = new PersistenciaLog(arquivo());
+        List<Tarefa> carregadas = reaberto.carregar();
+        reaberto.registrarInclusao(new Tarefa(3L, "Lavar o carro", null, null, StatusTarefa.PENDENTE));
+        reaberto.close();
+
+        assertEquals(1, carregadas.size());
+        assertEquals(1L, carregadas.get(0).getId());
+        assertEquals(1, Files.readAllLines(caminhoLog).size());
+        assertEquals(2, new PersistenciaLog(arquivo()).carregar().size());
+    }
+
+    @Test
+    @DisplayName("Deve apagar o log ao gravar o snapshot e pedir compactação ao atingir o limite")
+    void salvar_DeveCompactarApagandoLog() {
+        PersistenciaLog log = new PersistenciaLog(arquivo(), 3);
+        log.registrarInclusao(new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.PENDENTE));
+        log.registrarInclusao(new Tarefa(2L, "Pagar contas", null, null, StatusTarefa.PENDENTE));
+        assertFalse(log.precisaCompactar());
+        log.registrarStatus(1L, StatusTarefa.CONCLUIDA);
+        assertTrue(log.precisaCompactar());
+
+        log.salvar(Arrays.asList(
+                new Tarefa(1L, "Comprar pão", null, null, StatusTarefa.CONCLUIDA),
+                new Tarefa(2L, "Pagar contas", null, null, StatusTarefa.PENDENTE)));
+
+        assertFalse(Files.exists(diretorio.resolve("tarefas.json.log")));
+        assertFalse(log.precisaCompactar());
+        log.registrarExclusao(2L);
+        log.close();
+        List<Tarefa> carregadas = new PersistenciaLog(arquivo()).carregar();
+        assertEquals(1, carregadas.size());
+        assertEquals(StatusTarefa.CONCLUIDA, carregadas.get(0).getStatus());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaMapeada;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenciaMapeadaTest {
+
+    @TempDir
+    Path diretorio;
+
+    private String arquivo() {
+        return diretorio.resolve("tarefas.dat").toString();
+    }
+
+    private static List<Tarefa> exemplos() {
+        return Arrays.asList(
+                new Tarefa(1L, "Comprar pão", null, LocalDate.of(2025, 1, 31), StatusTarefa.PENDENTE),
+                new Tarefa(2L, "Pagar contas", "Luz e água", null, StatusTarefa.CONCLUIDA),
+                new Tarefa(5L, "Revisão do carro", "Troca de óleo", LocalDate.of(2025, 6, 1), StatusTarefa.PENDENTE));
+    }
+
+    private static void assertMesmosCampos(List<Tarefa> esperadas, List<Tarefa> obtidas) {
+        assertEquals(esperadas.size(), obtidas.size());
+        for (int i = 0; i < esperadas.size(); i++) {
+            Tarefa esperada = esperadas.get(i);
+            Tarefa obtida = obtidas.get(i);
+            assertEquals(esperada.getId(), obtida.getId());
+            assertEquals(esperada.getTitulo(), obtida.getTitulo());
+            assertEquals(esperada.getDescricao(), obtida.getDescricao());
+            assertEquals(esperada.getDataVencimento(), obtida.getDataVencimento());
+            assertEquals(esperada.getStatus(), obtida.getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar e recarregar todos os campos das tarefas")
+    void salvar_DevePreservarCamposAoRecarregar() {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        persistencia.salvar(exemplos());
+        persistencia.close();
+
+        PersistenciaMapeada reaberta = new PersistenciaMapeada(arquivo());
+        assertMesmosCampos(exemplos(), reaberta.carregar());
+        assertEquals("Pagar contas", reaberta.carregarTarefa(2L).orElseThrow().getTitulo());
+        assertFalse(reaberta.carregarTarefa(3L).isPresent());
+        reaberta.close();
+    }
+
+    @Test
+    @DisplayName("A lista carregada deve continuar legível e poder ser salva de volta")
+    void salvar_DaListaCarregada_DeveFuncionar() {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        persistencia.salvar(exemplos());
+
+        List<Tarefa> carregadas = persistencia.carregar();
+        persistencia.registrarStatus(1L, StatusTarefa.CONCLUIDA);
+        persistencia.salvar(carregadas);
+
+        assertMesmosCampos(exemplos(), carregadas);
+        assertMesmosCampos(exemplos(), persistencia.carregar());
+        persistencia.close();
+        assertMesmosCampos(exemplos(), new PersistenciaMapeada(arquivo()).carregar());
+    }
+
+    @Test
+    @DisplayName("Gravações incrementais devem sobreviver a fechar e reabrir o arquivo")
+    void registrar_DeveSobreviverAReabertura() {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        persistencia.salvar(exemplos());
+        persistencia.registrarInclusao(new Tarefa(6L, "Lavar o carro", null, null, StatusTarefa.PENDENTE));
+        persistencia.registrarAtualizacao(new Tarefa(1L, "Comprar pão integral", "Padaria", null, StatusTarefa.PENDENTE));
+        persistencia.registrarStatus(5L, StatusTarefa.CONCLUIDA);
+        persistencia.registrarExclusao(2L);
+        persistencia.close();
+
+        List<Tarefa> carregadas = new PersistenciaMapeada(arquivo()).carregar();
+
+        assertMesmosCampos(Arrays.asList(
+                new Tarefa(1L, "Comprar pão integral", "Padaria", null, StatusTarefa.PENDENTE),
+                new Tarefa(5L, "Revisão do carro", "Troca de óleo", LocalDate.of(2025, 6, 1), StatusTarefa.CONCLUIDA),
+                new Tarefa(6L, "Lavar o carro", null, null, StatusTarefa.PENDENTE)), carregadas);
+    }
+
+    @Test
+    @DisplayName("Deve pedir compactação com muito espaço morto e recuperá-lo ao salvar numa nova geração")
+    void salvar_DeveCompactarNumaNovaGeracao() throws Exception {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (long id = 1; id <= 3_000; id++) {
+            tarefas.add(new Tarefa(id, "Tarefa " + id, null, null, StatusTarefa.PENDENTE));
+        }
+        persistencia.salvar(tarefas);
+        assertTrue(Files.exists(diretorio.resolve("tarefas.dat.textos.2")));
+        for (long id = 1; id <= 2_000; id++) {
+            persistencia.registrarExclusao(id);
+        }
+        assertTrue(persistencia.precisaCompactar());
+
+        persistencia.salvar(persistencia.carregar());
+
+        assertFalse(persistencia.precisaCompactar());
+        assertFalse(Files.exists(diretorio.resolve("tarefas.dat.textos.2")));
+        assertTrue(Files.exists(diretorio.resolve("tarefas.dat.textos.3")));
+        persistencia.close();
+        List<Tarefa> carregadas = new PersistenciaMapeada(arquivo()).carregar();
+        assertEquals(1_000, carregadas.size());
+        assertEquals(2_001L, carregadas.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Uma falha no meio de salvar deve manter o arquivo original e as gravações seguintes nele")
+    void salvar_ComFalha_DeveManterArquivoOriginal() {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        persistencia.salvar(exemplos());
+        List<Tarefa> comFalha = new AbstractList<Tarefa>() {
+            @Override
+            public Tarefa get(int index) {
+                if (index == 1) {
+                    throw new IllegalStateException("falha simulada");
+                }
+                return exemplos().get(index);
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> persistencia.salvar(comFalha));
+        persistencia.registrarStatus(1L, StatusTarefa.CONCLUIDA);
+        persistencia.close();
+
+        assertFalse(Files.exists(diretorio.resolve("tarefas.dat.tmp")));
+        List<Tarefa> carregadas = new PersistenciaMapeada(arquivo()).carregar();
+        assertEquals(3, carregadas.size());
+        assertEquals(StatusTarefa.CONCLUIDA, carregadas.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Datas fora do intervalo e registros corrompidos devem lançar PersistenciaException")
+    void registrosInvalidos_DevemLancarPersistenciaException() throws Exception {
+        PersistenciaMapeada persistencia = new PersistenciaMapeada(arquivo());
+        assertThrows(PersistenciaException.class, () -> persistencia.salvar(Arrays.asList(
+                new Tarefa(1L, "Muito distante", null, LocalDate.MAX, StatusTarefa.PENDENTE))));
+        persistencia.salvar(exemplos());
+        persistencia.close();
+
+        // Byte de status do primeiro registro, logo depois do cabeçalho de 64 bytes e do ID.
+        try (RandomAccessFile arquivo = new RandomAccessFile(arquivo(), "rw")) {
+            arquivo.seek(64 + 8);
+            arquivo.write(42);
+        }
+
+        PersistenciaMapeada reaberta = new PersistenciaMapeada(arquivo());
+        List<Tarefa> carregadas = reaberta.carregar();
+        assertThrows(PersistenciaException.class, () -> carregadas.get(0));
+        assertThrows(PersistenciaException.class, () -> reaberta.carregarTarefa(1L));
+        assertEquals("Pagar contas", carregadas.get(1).getTitulo());
+        reaberta.close();
+        assertTrue(new GerenciadorTarefas(new PersistenciaMapeada(arquivo())).listarTodas().isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.domain.StatusTarefa;
+import main.java.com.todolist.domain.Tarefa;
+import main.java.com.todolist.persistence.PersistenciaException;
+import main.java.com.todolist.persistence.PersistenciaJson;
+import main.java.com.todolist.transferencia.PipelineTransferencia;
+import main.java.com.todolist.transferencia.ResultadoTransferencia;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineTransferenciaTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve converter JSON, CSV e NDJSON em ordem, rejeitando registros inválidos")
+    void transferir_DeveConverterEntreFormatos() throws Exception {
+        Path json = diretorio.resolve("tarefas.json");
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            tarefas.add(new Tarefa(i, "Tarefa " + i + ", \"urgente\"", i % 2 == 0 ? "Linha 1\nLinha 2" : null,
+                    i % 3 == 0 ? LocalDate.of(2025, 1, 31) : null, i % 5 == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.PENDENTE));
+        }
+        new PersistenciaJson(json.toString()).salvar(tarefas);
+        Path csv = diretorio.resolve("tarefas.csv");
+        Files.writeString(diretorio.resolve("invalidas.ndjson"), "{\"id\":1,\"titulo\":\" \"}\n{\"id\":2,\"titulo\":\"Ok\"}\n");
+        PipelineTransferencia pipeline = new PipelineTransferencia(3, 16, false);
+
+        ResultadoTransferencia paraCsv = pipeline.transferir(json, csv);
+        ResultadoTransferencia concluidas = pipeline.transferir(csv, diretorio.resolve("concluidas.ndjson"),
+                tarefa -> tarefa.getStatus() == StatusTarefa.CONCLUIDA ? tarefa : null, parcial -> { });
+        pipeline.transferir(csv, diretorio.resolve("copia.json"));
+        ResultadoTransferencia invalidas = pipeline.transferir(diretorio.resolve("invalidas.ndjson"), diretorio.resolve("validas.csv"));
+
+        assertEquals(250, paraCsv.getGravadas());
+        List<Tarefa> copia = new PersistenciaJson(diretorio.resolve("copia.json").toString()).carregar();
+        assertEquals(tarefas, copia);
+        Tarefa original = tarefas.get(29);
+        assertEquals(original.getTitulo(), copia.get(29).getTitulo());
+        assertEquals(original.getDescricao(), copia.get(29).getDescricao());
+        assertEquals(original.getDataVencimento(), copia.get(29).getDataVencimento());
+        assertEquals(original.getStatus(), copia.get(29).getStatus());
+        assertEquals(50, concluidas.getGravadas());
+        assertEquals(200, concluidas.getFiltradas());
+        assertEquals(1, invalidas.getRejeitadas());
+        assertEquals(1, invalidas.getGravadas());
+        assertThrows(PersistenciaException.class, () -> new PipelineTransferencia(1, 16, true)
+                .transferir(diretorio.resolve("invalidas.ndjson"), diretorio.resolve("estrito.csv")));
+        assertFalse(Files.exists(diretorio.resolve("estrito.csv")));
+    }
+}
\ No newline at end of file
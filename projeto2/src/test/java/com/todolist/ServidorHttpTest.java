@@ -0,0 +1,127 @@
+package test.java.com.todolist;
+
+import main.java.com.todolist.persistence.PersistenciaJson;
+import main.java.com.todolist.service.GerenciadorTarefas;
+import main.java.com.todolist.ui.ServidorHttp;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServidorHttpTest {
+
+    @TempDir
+    Path diretorio;
+
+    private GerenciadorTarefas gerenciador;
+    private ServidorHttp servidor;
+    private String base;
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gerenciador = new GerenciadorTarefas(new PersistenciaJson(diretorio.resolve("tarefas.json").toString()));
+        servidor = new ServidorHttp(gerenciador, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        servidor.iniciar();
+        base = "http://localhost:" + servidor.getPorta() + "/tarefas";
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.close();
+        gerenciador.close();
+    }
+
+    private HttpResponse<String> enviar(HttpRequest requisicao) throws Exception {
+        return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String caminho) throws Exception {
+        return enviar(HttpRequest.newBuilder(URI.create(base + caminho)).build());
+    }
+
+    @Test
+    @DisplayName("Deve criar, buscar e listar tarefas, respondendo 304 a um ETag igual")
+    void servidor_DeveCriarBuscarEListarComEtag() throws Exception {
+        HttpResponse<String> criada = enviar(HttpRequest.newBuilder(URI.create(base))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"titulo\":\"Comprar pão\",\"dataVencimento\":\"2025-01-31\"}"))
+                .header("Content-Type", "application/json").build());
+        assertEquals(201, criada.statusCode());
+        String local = criada.headers().firstValue("Location").orElseThrow();
+        assertTrue(criada.body().contains("\"2025-01-31\""));
+
+        HttpResponse<String> concluida = enviar(HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPorta() + local + "/status"))
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"CONCLUIDA\"}")).build());
+        assertEquals(200, concluida.statusCode());
+        assertTrue(concluida.body().contains("CONCLUIDA"));
+        assertEquals(1, gerenciador.listarConcluidas().size());
+
+        HttpResponse<String> lista = get("");
+        String etag = lista.headers().firstValue("ETag").orElseThrow();
+        assertEquals(200, lista.statusCode());
+        assertTrue(lista.body().startsWith("[") && lista.body().contains("Comprar pão"));
+
+        HttpResponse<String> naoModificada = enviar(HttpRequest.newBuilder(URI.create(base)).header("If-None-Match", etag).build());
+        assertEquals(304, naoModificada.statusCode());
+
+        assertEquals(404, get("/999").statusCode());
+        HttpResponse<String> invalida = enviar(HttpRequest.newBuilder(URI.create(base))
+                .POST(HttpRequest.BodyPublishers.ofString("{titulo")).build());
+        assertEquals(400, invalida.statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor e buscar por texto com as tarefas do instantâneo")
+    void listar_ComCursorEConsulta_DeveUsarInstantaneo() throws Exception {
+        for (int i = 1; i <= 25; i++) {
+            gerenciador.adicionarTarefa(i % 5 == 0 ? "Pagar conta " + i : "Tarefa " + i, null, null);
+        }
+        gerenciador.excluirTarefa(3);
+        ObjectMapper json = new ObjectMapper();
+
+        List<Long> ids = new ArrayList<>();
+        long cursor = 0;
+        boolean temMais = true;
+        while (temMais) {
+            JsonNode pagina = json.readTree(get("?limite=10&cursor=" + cursor).body());
+            pagina.get("tarefas").forEach(tarefa -> ids.add(tarefa.get("id").asLong()));
+            cursor = pagina.get("proximoCursor").asLong();
+            temMais = pagina.get("temMais").asBoolean();
+        }
+        assertEquals(24, ids.size());
+        assertFalse(ids.contains(3L));
+        assertEquals(25L, ids.get(ids.size() - 1));
+
+        JsonNode encontradas = json.readTree(get("?q=pagar%20con").body());
+        assertEquals(5, encontradas.size());
+        assertEquals("Pagar conta 5", encontradas.get(0).get("titulo").asText());
+    }
+
+    @Test
+    @DisplayName("Deve responder 413 a um corpo maior que o limite sem criar a tarefa")
+    void criar_ComCorpoGrandeDemais_DeveResponder413() throws Exception {
+        String titulo = "x".repeat(128 * 1024);
+
+        HttpResponse<String> resposta = enviar(HttpRequest.newBuilder(URI.create(base))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"titulo\":\"" + titulo + "\"}")).build());
+
+        assertEquals(413, resposta.statusCode());
+        assertTrue(gerenciador.listarTodas().isEmpty());
+        assertEquals(200, get("").statusCode());
+    }
+}
\ No newline at end of file